@@ -1,20 +1,31 @@
 package com.farias.caixinha.application.budget.controller;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.Granularity;
+import com.farias.caixinha.application.budget.model.SpendingBucket;
+import com.farias.caixinha.application.budget.model.Transfer;
 import com.farias.caixinha.application.budget.service.BudgetService;
+import com.farias.caixinha.application.budget.service.SpendingRollupService;
 import com.farias.caixinha.common.CrudController;
 
 import lombok.Getter;
@@ -24,9 +35,17 @@ import lombok.Setter;
 @RequestMapping("/budget")
 public class BudgetController extends CrudController<Budget, Budget> {
 
+    private static final String FOLLOWER = "follower";
+
     @Autowired
     BudgetService budgetService;
 
+    @Autowired
+    SpendingRollupService spendingRollupService;
+
+    @Value("${caixinha.replication.mode:leader}")
+    String replicationMode;
+
     @PostMapping("/{id}/withdrawn")
     public ResponseEntity<Budget> withdrawn(@PathVariable("id") UUID id, @RequestBody WithdrawnRequest request) {
         request.validate();
@@ -34,6 +53,32 @@ public class BudgetController extends CrudController<Budget, Budget> {
         return ResponseEntity.ok(persisted);
     }
 
+    @PostMapping("/transfer")
+    public List<Budget> transfer(@RequestBody TransferRequest request) {
+        request.validate();
+        return budgetService.transfer(request.getTransfers());
+    }
+
+    @GetMapping("/{id}/history")
+    public List<SpendingBucket> history(@PathVariable("id") UUID id,
+            @RequestParam(name = "granularity", defaultValue = "DAILY") Granularity granularity,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        if (FOLLOWER.equals(replicationMode)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Spending history is not replicated, read it from the leader");
+        }
+        if (!budgetService.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Budget with ID " + id + " not found.");
+        }
+        var end = to == null ? LocalDateTime.now() : to;
+        var start = from == null ? end.minus(granularity.getDefaultWindow()) : from;
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "From must not be after to");
+        }
+        return spendingRollupService.history(id, granularity, start, end);
+    }
+
     @PostMapping("/{id}/reset")
     public ResponseEntity<String> resetBalance(@PathVariable("id") UUID id) {
         budgetService.resetBalance(id);
@@ -63,3 +108,29 @@ class WithdrawnRequest {
         }
     }
 }
+
+@Getter
+@Setter
+class TransferRequest {
+    static final int MAX_TRANSFERS = 1000;
+
+    List<Transfer> transfers;
+
+    void validate() {
+        if (transfers == null || transfers.isEmpty() || transfers.size() > MAX_TRANSFERS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Transfers must contain between 1 and " + MAX_TRANSFERS + " entries");
+        }
+        for (var transfer : transfers) {
+            if (transfer == null || transfer.from() == null || transfer.to() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Transfer source and target are required");
+            }
+            if (transfer.from().equals(transfer.to())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Transfer source and target must differ");
+            }
+            if (transfer.amount() == null || transfer.amount().compareTo(BigDecimal.ZERO) <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount must be greater than zero");
+            }
+        }
+    }
+}
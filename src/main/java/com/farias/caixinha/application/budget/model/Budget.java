@@ -1,14 +1,22 @@
 package com.farias.caixinha.application.budget.model;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import com.farias.caixinha.common.BaseEntity;
+import com.farias.caixinha.common.TimeOrderedUuid;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,12 +26,31 @@ import lombok.Setter;
 public class Budget implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private UUID id;
     private String name;
     private String icon;
     private String theme;
     private BigDecimal initialBalance;
     private BigDecimal balance;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID parentId;
+    private BigDecimal subtreeBalance;
+    @Enumerated(EnumType.STRING)
+    private BudgetCycle cycle;
+    private LocalDateTime nextResetAt;
+
+    @PrePersist
+    @PreUpdate
+    void scheduleNextReset() {
+        if (cycle == null) {
+            nextResetAt = null;
+        } else if (nextResetAt == null) {
+            nextResetAt = cycle.nextBoundary(LocalDateTime.now());
+        }
+    }
 
 }
@@ -0,0 +1,28 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+public enum BudgetCycle {
+
+    WEEKLY {
+        @Override
+        public LocalDateTime nextBoundary(LocalDateTime from) {
+            return from.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+        }
+    },
+    MONTHLY {
+        @Override
+        public LocalDateTime nextBoundary(LocalDateTime from) {
+            return from.toLocalDate().with(TemporalAdjusters.firstDayOfNextMonth()).atStartOfDay();
+        }
+    };
+
+    /**
+     * First cycle boundary strictly after {@code from}. Boundaries are calendar
+     * aligned, so every budget of a cycle shares the same next reset instant.
+     */
+    public abstract LocalDateTime nextBoundary(LocalDateTime from);
+
+}
@@ -0,0 +1,33 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+public class BudgetResetCheckpoint {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private BudgetCycle cycle;
+    private LocalDateTime cutoff;
+    private UUID lastBudgetId;
+    private long processed;
+    private boolean completed;
+
+    public static BudgetResetCheckpoint start(BudgetCycle cycle, LocalDateTime cutoff) {
+        var checkpoint = new BudgetResetCheckpoint();
+        checkpoint.setCycle(cycle);
+        checkpoint.setCutoff(cutoff);
+        return checkpoint;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Persisted balances and parent of a budget, read without loading the entity.
+ */
+public record BudgetState(BigDecimal balance, BigDecimal subtreeBalance, UUID parentId) {
+
+}
@@ -0,0 +1,11 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record BudgetTransferred(UUID fromBudgetId, UUID toBudgetId, BigDecimal amount, Instant occurredAt) {
+
+    public static final String EVENT_TYPE = "budget.transferred";
+
+}
@@ -0,0 +1,11 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record BudgetWithdrawn(UUID budgetId, BigDecimal amount, BigDecimal balance, Instant occurredAt) {
+
+    public static final String EVENT_TYPE = "budget.withdrawn";
+
+}
@@ -0,0 +1,42 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAmount;
+
+public enum Granularity {
+
+    HOURLY(Duration.ofHours(48)) {
+        @Override
+        public LocalDateTime bucketStart(LocalDateTime at) {
+            return at.truncatedTo(ChronoUnit.HOURS);
+        }
+    },
+    DAILY(Period.ofDays(90)) {
+        @Override
+        public LocalDateTime bucketStart(LocalDateTime at) {
+            return at.truncatedTo(ChronoUnit.DAYS);
+        }
+    },
+    MONTHLY(Period.ofMonths(24)) {
+        @Override
+        public LocalDateTime bucketStart(LocalDateTime at) {
+            return at.toLocalDate().withDayOfMonth(1).atStartOfDay();
+        }
+    };
+
+    private final TemporalAmount defaultWindow;
+
+    Granularity(TemporalAmount defaultWindow) {
+        this.defaultWindow = defaultWindow;
+    }
+
+    public abstract LocalDateTime bucketStart(LocalDateTime at);
+
+    public TemporalAmount getDefaultWindow() {
+        return defaultWindow;
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record SpendingBucket(LocalDateTime start, BigDecimal amount, long count) {
+
+}
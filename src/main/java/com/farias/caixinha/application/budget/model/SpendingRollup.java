@@ -0,0 +1,52 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Withdrawn amount and count of one budget within one time bucket. The
+ * composite key leads with the budget id, so a budget's buckets of a given
+ * granularity are contiguous in the primary key index and a history query is
+ * a single range scan.
+ */
+@Entity
+@IdClass(SpendingRollupId.class)
+@Getter
+@Setter
+public class SpendingRollup {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID budgetId;
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Granularity granularity;
+    @Id
+    private LocalDateTime bucketStart;
+    private BigDecimal amount;
+    private long count;
+
+    public static SpendingRollup empty(SpendingRollupId id) {
+        var rollup = new SpendingRollup();
+        rollup.setBudgetId(id.getBudgetId());
+        rollup.setGranularity(id.getGranularity());
+        rollup.setBucketStart(id.getBucketStart());
+        rollup.setAmount(BigDecimal.ZERO);
+        return rollup;
+    }
+
+}
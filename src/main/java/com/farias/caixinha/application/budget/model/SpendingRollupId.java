@@ -0,0 +1,20 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpendingRollupId implements Serializable {
+
+    private UUID budgetId;
+    private Granularity granularity;
+    private LocalDateTime bucketStart;
+
+}
@@ -0,0 +1,8 @@
+package com.farias.caixinha.application.budget.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record Transfer(UUID from, UUID to, BigDecimal amount) {
+
+}
@@ -1,13 +1,65 @@
 package com.farias.caixinha.application.budget.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.BudgetCycle;
+import com.farias.caixinha.application.budget.model.BudgetState;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, UUID> {
 
+    /**
+     * Reads the stored state without flushing, so pending changes to a managed
+     * budget do not hide the values they replace.
+     */
+    @Query("select new com.farias.caixinha.application.budget.model.BudgetState(b.balance, b.subtreeBalance, "
+            + "b.parentId) from Budget b where b.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    Optional<BudgetState> findStateById(@Param("id") UUID id);
+
+    @Query("select b.id from Budget b where b.cycle = :cycle and b.nextResetAt <= :cutoff and b.id > :after order by b.id")
+    List<UUID> findDueIds(@Param("cycle") BudgetCycle cycle, @Param("cutoff") LocalDateTime cutoff,
+            @Param("after") UUID after, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Budget b set b.balance = b.initialBalance, "
+            + "b.subtreeBalance = b.subtreeBalance + b.initialBalance - b.balance, b.nextResetAt = :next "
+            + "where b.id in :ids and b.nextResetAt <= :cutoff")
+    int resetBalances(@Param("ids") Collection<UUID> ids, @Param("cutoff") LocalDateTime cutoff,
+            @Param("next") LocalDateTime next);
+
+    boolean existsByParentId(UUID parentId);
+
+    /**
+     * Reads the parent without flushing, so a budget changed in memory but not
+     * yet locked is not written ahead of its row lock.
+     */
+    @Query("select b.parentId from Budget b where b.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    Optional<UUID> findParentIdById(@Param("id") UUID id);
+
+    @Query("select distinct b.parentId from Budget b where b.id in :ids and b.parentId is not null")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    List<UUID> findParentIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("update Budget b set b.subtreeBalance = coalesce(b.balance, 0) where b.subtreeBalance is null")
+    int initializeSubtreeBalances();
+
 }
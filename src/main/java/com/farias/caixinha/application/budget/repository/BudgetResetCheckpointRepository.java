@@ -0,0 +1,12 @@
+package com.farias.caixinha.application.budget.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.farias.caixinha.application.budget.model.BudgetCycle;
+import com.farias.caixinha.application.budget.model.BudgetResetCheckpoint;
+
+@Repository
+public interface BudgetResetCheckpointRepository extends JpaRepository<BudgetResetCheckpoint, BudgetCycle> {
+
+}
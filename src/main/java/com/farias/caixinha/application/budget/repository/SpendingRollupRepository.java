@@ -0,0 +1,27 @@
+package com.farias.caixinha.application.budget.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.farias.caixinha.application.budget.model.Granularity;
+import com.farias.caixinha.application.budget.model.SpendingRollup;
+import com.farias.caixinha.application.budget.model.SpendingRollupId;
+
+@Repository
+public interface SpendingRollupRepository extends JpaRepository<SpendingRollup, SpendingRollupId> {
+
+    List<SpendingRollup> findByBudgetIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(UUID budgetId,
+            Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Query("delete from SpendingRollup r where r.budgetId = :budgetId")
+    int deleteByBudgetId(@Param("budgetId") UUID budgetId);
+
+}
@@ -0,0 +1,33 @@
+package com.farias.caixinha.application.budget.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Budgets created before nesting existed have no parent, so their subtree
+ * balance is their own balance.
+ */
+@Slf4j
+@Component
+public class BudgetHierarchyMigration implements ApplicationRunner {
+
+    @Autowired
+    BudgetRepository repository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        var initialized = repository.initializeSubtreeBalances();
+        if (initialized > 0) {
+            log.info("Initialized subtree balance of {} budgets", initialized);
+        }
+    }
+
+}
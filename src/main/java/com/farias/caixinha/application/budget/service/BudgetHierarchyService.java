@@ -0,0 +1,130 @@
+package com.farias.caixinha.application.budget.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.common.changefeed.ChangeFeed;
+import com.farias.caixinha.common.changefeed.ChangeType;
+
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+/**
+ * Keeps {@link Budget#getSubtreeBalance()} equal to a budget's own balance plus
+ * the subtree balances of its children. Every balance change is pushed up the
+ * ancestor chain as a delta, so reading a subtree total is a single row read.
+ */
+@Service
+public class BudgetHierarchyService {
+
+    static final int MAX_DEPTH = 32;
+
+    @Autowired
+    BudgetRepository repository;
+
+    @Autowired
+    BudgetLockService locks;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Transactional(TxType.MANDATORY)
+    public void propagate(UUID parentId, BigDecimal delta) {
+        if (parentId == null || delta.signum() == 0) {
+            return;
+        }
+        var ancestorId = parentId;
+        for (int depth = 0; ancestorId != null; depth++) {
+            if (depth == MAX_DEPTH) {
+                throw new IllegalStateException("Budget hierarchy deeper than " + MAX_DEPTH + " levels");
+            }
+            var missingId = ancestorId;
+            var ancestor = locks.lock(ancestorId)
+                    .orElseThrow(() -> new IllegalStateException("Parent budget " + missingId + " not found"));
+            ancestor.setSubtreeBalance(orZero(ancestor.getSubtreeBalance()).add(delta));
+            changeFeed.record(ChangeType.UPDATED, repository.save(ancestor));
+            ancestorId = ancestor.getParentId();
+        }
+    }
+
+    /**
+     * Write-locks the given budgets and all of their ancestors with one query in
+     * ascending id order, so concurrent multi-budget operations cannot deadlock.
+     * Chains are read a level at a time before locking; a parent that changed in
+     * between is locked in a follow-up round. Budgets that do not exist are
+     * absent from the result.
+     */
+    @Transactional(TxType.MANDATORY)
+    public Map<UUID, Budget> lockWithAncestors(Collection<UUID> budgetIds) {
+        var locked = new HashMap<UUID, Budget>();
+        var seen = new HashSet<UUID>(budgetIds);
+        var level = List.copyOf(seen);
+        for (int depth = 0; !level.isEmpty(); depth++) {
+            if (depth == MAX_DEPTH) {
+                throw new IllegalStateException("Budget hierarchy deeper than " + MAX_DEPTH + " levels");
+            }
+            level = repository.findParentIdsByIdIn(level).stream().filter(seen::add).toList();
+        }
+        var pending = List.copyOf(seen);
+        while (!pending.isEmpty()) {
+            locks.lockAll(pending).forEach(budget -> locked.put(budget.getId(), budget));
+            pending = locked.values().stream()
+                    .map(Budget::getParentId)
+                    .filter(parentId -> parentId != null && seen.add(parentId))
+                    .toList();
+        }
+        return locked;
+    }
+
+    /**
+     * Ids of every ancestor of a budget with the given parent, nearest first.
+     */
+    public List<UUID> ancestors(UUID parentId) {
+        var ancestors = new ArrayList<UUID>();
+        var ancestorId = parentId;
+        while (ancestorId != null) {
+            if (ancestors.size() == MAX_DEPTH) {
+                throw new IllegalStateException("Budget hierarchy deeper than " + MAX_DEPTH + " levels");
+            }
+            ancestors.add(ancestorId);
+            ancestorId = repository.findParentIdById(ancestorId).orElse(null);
+        }
+        return ancestors;
+    }
+
+    public void validateParent(UUID budgetId, UUID parentId) {
+        if (parentId == null) {
+            return;
+        }
+        if (!repository.existsById(parentId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Parent budget with ID " + parentId + " not found.");
+        }
+        if (budgetId != null && ancestors(parentId).contains(budgetId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Budget with ID " + budgetId + " cannot be nested under its own descendant.");
+        }
+    }
+
+    public boolean hasChildren(UUID budgetId) {
+        return repository.existsByParentId(budgetId);
+    }
+
+    static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.farias.caixinha.application.budget.service;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rewrites budget ids stored as 36 character text into the 16 byte binary form
+ * used by the entity mapping. Binary ids, whether random or time ordered, are
+ * left untouched since clients already reference them.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.datasource.driver-class-name", havingValue = "org.sqlite.JDBC")
+public class BudgetIdMigration implements ApplicationRunner {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        var textIds = jdbcTemplate.queryForList("select id from budget where typeof(id) = 'text'", String.class);
+        if (textIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("update budget set id = ? where id = ?", textIds, 500,
+                (statement, id) -> {
+                    statement.setBytes(1, toBytes(UUID.fromString(id)));
+                    statement.setString(2, id);
+                });
+        log.info("Migrated {} budget ids from text to binary", textIds.size());
+    }
+
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.farias.caixinha.application.budget.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.common.profiling.LockAcquisitionEvent;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+@Service
+public class BudgetLockService {
+
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * Loads a budget with a pessimistic write lock held until the surrounding
+     * transaction ends. A budget already in the persistence context is only
+     * locked, not reloaded, so pending changes to it survive; callers read old
+     * state through projections instead of loading budgets before locking
+     * them. The wait is recorded as a {@link LockAcquisitionEvent}.
+     */
+    @Transactional(TxType.MANDATORY)
+    public Optional<Budget> lock(UUID budgetId) {
+        var event = new LockAcquisitionEvent();
+        event.begin();
+        var budget = entityManager.find(Budget.class, budgetId, LockModeType.PESSIMISTIC_WRITE);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = Budget.class.getSimpleName() + "." + LockModeType.PESSIMISTIC_WRITE;
+            event.detail = budgetId.toString();
+            event.commit();
+        }
+        return Optional.ofNullable(budget);
+    }
+
+    /**
+     * Locks the given budgets with a single query in ascending id order. As with
+     * {@link #lock(UUID)}, budgets already in the persistence context keep their
+     * pending changes. Budgets that do not exist are absent from the result.
+     */
+    @Transactional(TxType.MANDATORY)
+    public List<Budget> lockAll(Collection<UUID> budgetIds) {
+        var event = new LockAcquisitionEvent();
+        event.begin();
+        var budgets = entityManager.createQuery("select b from Budget b where b.id in :ids order by b.id", Budget.class)
+                .setParameter("ids", budgetIds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setFlushMode(FlushModeType.COMMIT)
+                .getResultList();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = Budget.class.getSimpleName() + "." + LockModeType.PESSIMISTIC_WRITE;
+            event.detail = budgetIds.size() + " budgets";
+            event.commit();
+        }
+        return budgets;
+    }
+
+    /**
+     * Takes the database write lock before the transaction reads anything.
+     * SQLite has no row locks and fails a write that follows a read of a
+     * snapshot another writer has since replaced, so balance changes begin with
+     * this no-op update and wait on busy_timeout instead, while read
+     * transactions stay deferred. Databases with row locks match no rows and
+     * lock nothing.
+     */
+    @Transactional(TxType.MANDATORY)
+    public void beginWrite() {
+        entityManager.createNativeQuery("update budget set id = id where 1 = 0")
+                .setFlushMode(FlushModeType.COMMIT)
+                .executeUpdate();
+    }
+
+}
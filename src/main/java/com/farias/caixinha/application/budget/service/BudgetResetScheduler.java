@@ -0,0 +1,108 @@
+package com.farias.caixinha.application.budget.service;
+
+import static com.farias.caixinha.application.budget.service.BudgetHierarchyService.orZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.farias.caixinha.application.budget.model.BudgetCycle;
+import com.farias.caixinha.application.budget.model.BudgetResetCheckpoint;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.repository.BudgetResetCheckpointRepository;
+import com.farias.caixinha.common.changefeed.ChangeFeed;
+import com.farias.caixinha.common.changefeed.ChangeType;
+
+/**
+ * Resets every budget whose cycle boundary has passed. Due budgets are reset in
+ * id-ordered chunks with a single set-based update each, and the chunk's
+ * progress is checkpointed in the same transaction so an interrupted run
+ * resumes after the last committed chunk. Each chunk first locks its budgets
+ * and their ancestors in the same id order as every other balance change,
+ * then pushes the balance changes of nested budgets to their ancestors within
+ * the chunk's transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "caixinha.replication.mode", havingValue = "leader", matchIfMissing = true)
+public class BudgetResetScheduler {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    BudgetResetCheckpointRepository checkpointRepository;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    BudgetHierarchyService hierarchy;
+
+    @Autowired
+    BudgetLockService locks;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Value("${caixinha.budget.reset.chunk-size:500}")
+    int chunkSize;
+
+    @Scheduled(cron = "${caixinha.budget.reset.cron:0 */5 * * * *}")
+    public void resetDueBudgets() {
+        var now = LocalDateTime.now();
+        for (var cycle : BudgetCycle.values()) {
+            resetDueBudgets(cycle, now);
+        }
+    }
+
+    public long resetDueBudgets(BudgetCycle cycle, LocalDateTime now) {
+        var checkpoint = checkpointRepository.findById(cycle)
+                .filter(c -> !c.isCompleted())
+                .orElseGet(() -> BudgetResetCheckpoint.start(cycle, now));
+        while (!checkpoint.isCompleted()) {
+            var current = checkpoint;
+            checkpoint = transactionTemplate.execute(status -> resetChunk(current));
+        }
+        return checkpoint.getProcessed();
+    }
+
+    private BudgetResetCheckpoint resetChunk(BudgetResetCheckpoint checkpoint) {
+        locks.beginWrite();
+        var after = checkpoint.getLastBudgetId() == null ? FIRST_ID : checkpoint.getLastBudgetId();
+        var ids = budgetRepository.findDueIds(checkpoint.getCycle(), checkpoint.getCutoff(), after,
+                PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            checkpoint.setCompleted(true);
+        } else {
+            var next = checkpoint.getCycle().nextBoundary(checkpoint.getCutoff());
+            var locked = hierarchy.lockWithAncestors(ids);
+            var parentDeltas = new HashMap<UUID, BigDecimal>();
+            for (var id : ids) {
+                var budget = locked.get(id);
+                if (budget != null && budget.getParentId() != null && budget.getNextResetAt() != null
+                        && !budget.getNextResetAt().isAfter(checkpoint.getCutoff())) {
+                    var delta = orZero(budget.getInitialBalance()).subtract(orZero(budget.getBalance()));
+                    parentDeltas.merge(budget.getParentId(), delta, BigDecimal::add);
+                }
+            }
+            budgetRepository.resetBalances(ids, checkpoint.getCutoff(), next);
+            budgetRepository.findAllById(ids).forEach(budget -> changeFeed.record(ChangeType.RESET, budget));
+            parentDeltas.forEach(hierarchy::propagate);
+            checkpoint.setLastBudgetId(ids.get(ids.size() - 1));
+            checkpoint.setProcessed(checkpoint.getProcessed() + ids.size());
+        }
+        return checkpointRepository.save(checkpoint);
+    }
+
+}
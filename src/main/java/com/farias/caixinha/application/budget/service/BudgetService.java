@@ -1,6 +1,16 @@
 package com.farias.caixinha.application.budget.service;
 
+import static com.farias.caixinha.application.budget.service.BudgetHierarchyService.orZero;
+
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,40 +19,181 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.BudgetTransferred;
+import com.farias.caixinha.application.budget.model.BudgetWithdrawn;
+import com.farias.caixinha.application.budget.model.Transfer;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
 import com.farias.caixinha.common.CrudService;
+import com.farias.caixinha.common.changefeed.ChangeType;
+import com.farias.caixinha.common.outbox.Outbox;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 
 @Service
 public class BudgetService extends CrudService<Budget> {
 
     @Autowired
-    EntityManager entityManager;
+    Outbox outbox;
+
+    @Autowired
+    SpendingRollupService spendingRollupService;
+
+    @Autowired
+    BudgetHierarchyService hierarchy;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    BudgetLockService locks;
+
+    @Override
+    public Budget create(Budget budget) {
+        locks.beginWrite();
+        if (budget.getId() != null && existsById(budget.getId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Budget with ID " + budget.getId() + " already exists.");
+        }
+        if (budget.getParentId() != null) {
+            hierarchy.lockWithAncestors(List.of(budget.getParentId()));
+        }
+        hierarchy.validateParent(budget.getId(), budget.getParentId());
+        budget.setSubtreeBalance(orZero(budget.getBalance()));
+        var persisted = super.create(budget);
+        hierarchy.propagate(persisted.getParentId(), persisted.getSubtreeBalance());
+        return persisted;
+    }
+
+    @Override
+    public Budget update(Budget budget) {
+        locks.beginWrite();
+        lockWithAncestors(budget.getId(), budget.getParentId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format("Entity with id %s not found", budget.getId())));
+        // the caller may pass the managed budget with its changes already applied
+        var existing = budgetRepository.findStateById(budget.getId()).orElseThrow();
+        hierarchy.validateParent(budget.getId(), budget.getParentId());
+        var oldParentId = existing.parentId();
+        var oldSubtreeBalance = orZero(existing.subtreeBalance());
+        var balanceDelta = orZero(budget.getBalance()).subtract(orZero(existing.balance()));
+        var newSubtreeBalance = oldSubtreeBalance.add(balanceDelta);
+        budget.setSubtreeBalance(newSubtreeBalance);
+        var persisted = super.update(budget);
+        if (Objects.equals(oldParentId, persisted.getParentId())) {
+            hierarchy.propagate(oldParentId, balanceDelta);
+        } else {
+            hierarchy.propagate(oldParentId, oldSubtreeBalance.negate());
+            hierarchy.propagate(persisted.getParentId(), newSubtreeBalance);
+        }
+        return persisted;
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        locks.beginWrite();
+        var budget = lockWithAncestors(id, null)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Entity with id %s not found", id)));
+        if (hierarchy.hasChildren(id)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Budget with ID " + id + " has child budgets and cannot be deleted.");
+        }
+        var parentId = budget.getParentId();
+        var subtreeBalance = orZero(budget.getSubtreeBalance());
+        super.deleteById(id);
+        spendingRollupService.deleteAll(id);
+        hierarchy.propagate(parentId, subtreeBalance.negate());
+    }
 
     @Transactional
     public Budget withdrawn(UUID budgetId, BigDecimal amount) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Amount must be a positive value.");
         }
-        var budget = repository.findById(budgetId)
+        locks.beginWrite();
+        var budget = lockWithAncestors(budgetId, null)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Budget with ID " + budgetId + " not found."));
-        entityManager.lock(budget, LockModeType.PESSIMISTIC_WRITE);
         var newBalance = budget.getBalance().subtract(amount);
         budget.setBalance(newBalance);
-        return repository.save(budget);
+        budget.setSubtreeBalance(orZero(budget.getSubtreeBalance()).subtract(amount));
+        var persisted = repository.save(budget);
+        changeFeed.record(ChangeType.WITHDRAWN, persisted);
+        hierarchy.propagate(persisted.getParentId(), amount.negate());
+        spendingRollupService.record(budgetId, amount, LocalDateTime.now());
+        outbox.enqueue(BudgetWithdrawn.EVENT_TYPE, budgetId,
+                new BudgetWithdrawn(budgetId, amount, newBalance, Instant.now()));
+        return persisted;
     }
 
     public void resetBalance(UUID budgetId) {
-        var budget = repository.findById(budgetId)
+        locks.beginWrite();
+        var budget = lockWithAncestors(budgetId, null)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Budget with ID " + budgetId + " not found."));
-        entityManager.lock(budget, LockModeType.PESSIMISTIC_WRITE);
         var newBalance = budget.getInitialBalance();
+        var delta = orZero(newBalance).subtract(orZero(budget.getBalance()));
         budget.setBalance(newBalance);
-        repository.save(budget);
+        budget.setSubtreeBalance(orZero(budget.getSubtreeBalance()).add(delta));
+        var persisted = repository.save(budget);
+        changeFeed.record(ChangeType.RESET, persisted);
+        hierarchy.propagate(persisted.getParentId(), delta);
+    }
+
+    /**
+     * Applies every transfer in one transaction. All participants and their
+     * ancestors are locked up front in id order, so concurrent transfers over
+     * overlapping budgets wait on each other instead of deadlocking.
+     */
+    public List<Budget> transfer(List<Transfer> transfers) {
+        var participants = new LinkedHashSet<UUID>();
+        for (var transfer : transfers) {
+            if (transfer.amount() == null || transfer.amount().compareTo(BigDecimal.ZERO) <= 0) {
+                throw new IllegalArgumentException("Amount must be a positive value.");
+            }
+            if (transfer.from() == null || transfer.to() == null) {
+                throw new IllegalArgumentException("Transfer source and target are required.");
+            }
+            if (transfer.from().equals(transfer.to())) {
+                throw new IllegalArgumentException("Cannot transfer from a budget to itself.");
+            }
+            participants.add(transfer.from());
+            participants.add(transfer.to());
+        }
+        locks.beginWrite();
+        var budgets = hierarchy.lockWithAncestors(participants);
+        for (var id : participants) {
+            if (!budgets.containsKey(id)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Budget with ID " + id + " not found.");
+            }
+        }
+        var parentDeltas = new HashMap<UUID, BigDecimal>();
+        for (var transfer : transfers) {
+            move(budgets.get(transfer.from()), transfer.amount().negate(), parentDeltas);
+            move(budgets.get(transfer.to()), transfer.amount(), parentDeltas);
+        }
+        var persisted = participants.stream().map(id -> repository.save(budgets.get(id))).toList();
+        persisted.forEach(budget -> changeFeed.record(ChangeType.TRANSFERRED, budget));
+        parentDeltas.forEach(hierarchy::propagate);
+        var now = Instant.now();
+        for (var transfer : transfers) {
+            outbox.enqueue(BudgetTransferred.EVENT_TYPE, transfer.from(),
+                    new BudgetTransferred(transfer.from(), transfer.to(), transfer.amount(), now));
+        }
+        return persisted;
+    }
+
+    private static void move(Budget budget, BigDecimal delta, Map<UUID, BigDecimal> parentDeltas) {
+        budget.setBalance(orZero(budget.getBalance()).add(delta));
+        budget.setSubtreeBalance(orZero(budget.getSubtreeBalance()).add(delta));
+        if (budget.getParentId() != null) {
+            parentDeltas.merge(budget.getParentId(), delta, BigDecimal::add);
+        }
+    }
+
+    private Optional<Budget> lockWithAncestors(UUID budgetId, UUID parentId) {
+        var ids = parentId == null ? List.of(budgetId) : List.of(budgetId, parentId);
+        return Optional.ofNullable(hierarchy.lockWithAncestors(ids).get(budgetId));
     }
 
 }
@@ -0,0 +1,64 @@
+package com.farias.caixinha.application.budget.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.farias.caixinha.application.budget.model.Granularity;
+import com.farias.caixinha.application.budget.model.SpendingBucket;
+import com.farias.caixinha.application.budget.model.SpendingRollup;
+import com.farias.caixinha.application.budget.model.SpendingRollupId;
+import com.farias.caixinha.application.budget.repository.SpendingRollupRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+@Service
+public class SpendingRollupService {
+
+    @Autowired
+    SpendingRollupRepository repository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * Adds a withdrawal to its hourly, daily and monthly buckets. Runs in the
+     * withdrawal's transaction, whose lock on the budget row serializes
+     * concurrent increments of the same buckets. Existing buckets are updated
+     * through dirty checking and new ones persisted directly, since save()
+     * cannot tell a composite key is new and would merge with an extra select.
+     */
+    @Transactional(TxType.MANDATORY)
+    public void record(UUID budgetId, BigDecimal amount, LocalDateTime at) {
+        for (var granularity : Granularity.values()) {
+            var id = new SpendingRollupId(budgetId, granularity, granularity.bucketStart(at));
+            var existing = repository.findById(id);
+            var rollup = existing.orElseGet(() -> SpendingRollup.empty(id));
+            rollup.setAmount(rollup.getAmount().add(amount));
+            rollup.setCount(rollup.getCount() + 1);
+            if (existing.isEmpty()) {
+                entityManager.persist(rollup);
+            }
+        }
+    }
+
+    @Transactional(TxType.MANDATORY)
+    public void deleteAll(UUID budgetId) {
+        repository.deleteByBudgetId(budgetId);
+    }
+
+    public List<SpendingBucket> history(UUID budgetId, Granularity granularity, LocalDateTime from,
+            LocalDateTime to) {
+        return repository.findByBudgetIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(budgetId,
+                granularity, granularity.bucketStart(from), to).stream()
+                .map(rollup -> new SpendingBucket(rollup.getBucketStart(), rollup.getAmount(), rollup.getCount()))
+                .toList();
+    }
+
+}
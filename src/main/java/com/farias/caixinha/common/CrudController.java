@@ -17,6 +17,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.farias.caixinha.common.profiling.MappingEvent;
+
 import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
@@ -31,23 +33,32 @@ public abstract class CrudController<E extends BaseEntity, T> {
 
     @PostMapping(consumes = "application/json")
     public ResponseEntity<T> create(@RequestBody T entity) {
-        var mappedEntity = modelMapper.map(entity, getEntityClass());
+        var mappedEntity = map(entity, getEntityClass());
         var persistedEntity = crudService.create(mappedEntity);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(modelMapper.map(persistedEntity, getDTOClass()));
+                .body(map(persistedEntity, getDTOClass()));
     }
 
     @GetMapping
     public List<T> listAll() {
-        return crudService.listAll().stream()
-                .map(e -> modelMapper.map(e, getDTOClass())).toList();
+        var entities = crudService.listAll();
+        var event = new MappingEvent();
+        event.begin();
+        var mapped = entities.stream().map(e -> modelMapper.map(e, getDTOClass())).toList();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = mappingOperation(getEntityClass(), getDTOClass()) + "[]";
+            event.detail = String.valueOf(entities.size());
+            event.commit();
+        }
+        return mapped;
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<T> findById(@PathVariable("id") UUID id) {
         return crudService.findById(id)
-                .map(e -> modelMapper.map(e, getDTOClass()))
+                .map(e -> map(e, getDTOClass()))
                 .map(ResponseEntity::ok)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MESSAGE_ENTITY_NOT_FOUND));
     }
@@ -57,12 +68,12 @@ public abstract class CrudController<E extends BaseEntity, T> {
         E existingEntity = crudService.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MESSAGE_ENTITY_NOT_FOUND));
 
-        E updatedEntity = modelMapper.map(entity, getEntityClass());
+        E updatedEntity = map(entity, getEntityClass());
         updatedEntity.setId(existingEntity.getId());
 
         E persistedEntity = crudService.update(updatedEntity);
 
-        return ResponseEntity.ok(modelMapper.map(persistedEntity, getDTOClass()));
+        return ResponseEntity.ok(map(persistedEntity, getDTOClass()));
     }
 
     @PatchMapping(path = "/{id}", consumes = "application/json")
@@ -78,7 +89,7 @@ public abstract class CrudController<E extends BaseEntity, T> {
 
         E persistedEntity = crudService.update(existingEntity);
 
-        return ResponseEntity.ok(modelMapper.map(persistedEntity, getDTOClass()));
+        return ResponseEntity.ok(map(persistedEntity, getDTOClass()));
     }
 
     @DeleteMapping("/{id}")
@@ -91,6 +102,22 @@ public abstract class CrudController<E extends BaseEntity, T> {
         return ResponseEntity.noContent().build();
     }
 
+    private <D> D map(Object source, Class<D> destinationType) {
+        var event = new MappingEvent();
+        event.begin();
+        var mapped = modelMapper.map(source, destinationType);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = mappingOperation(source.getClass(), destinationType);
+            event.commit();
+        }
+        return mapped;
+    }
+
+    private static String mappingOperation(Class<?> sourceType, Class<?> destinationType) {
+        return sourceType.getSimpleName() + "->" + destinationType.getSimpleName();
+    }
+
     public abstract Class<E> getEntityClass();
 
     public abstract Class<T> getDTOClass();
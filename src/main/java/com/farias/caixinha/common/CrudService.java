@@ -3,9 +3,16 @@ package com.farias.caixinha.common;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.util.ClassUtils;
+
+import com.farias.caixinha.common.changefeed.ChangeFeed;
+import com.farias.caixinha.common.changefeed.ChangeType;
+import com.farias.caixinha.common.profiling.RepositoryCallEvent;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -18,34 +25,65 @@ public abstract class CrudService<E extends BaseEntity> {
     @Autowired
     protected JpaRepository<E, UUID> repository;
 
+    @Autowired
+    protected ChangeFeed changeFeed;
+
     public E create(E entity) {
-        return repository.save(entity);
+        var persisted = profiled("save", () -> repository.save(entity));
+        changeFeed.record(ChangeType.CREATED, persisted);
+        return persisted;
     }
 
     public List<E> listAll() {
-        return repository.findAll();
+        return profiled("findAll", repository::findAll);
     }
 
     public Optional<E> findById(UUID id) {
-        return repository.findById(id);
+        return profiled("findById", () -> repository.findById(id));
     }
 
     public E update(E entity) {
         UUID id = entity.getId();
-        if (!repository.existsById(id)) {
+        if (!existsById(id)) {
             throw new EntityNotFoundException(String.format("Entity with id %s not found", id));
         }
-        return repository.save(entity);
+        var persisted = profiled("save", () -> repository.save(entity));
+        changeFeed.record(ChangeType.UPDATED, persisted);
+        return persisted;
     }
 
     public void deleteById(UUID id) {
-        if (!repository.existsById(id)) {
-            throw new EntityNotFoundException(String.format("Entity with id %s not found", id));
-        }
-        repository.deleteById(id);
+        var entity = findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Entity with id %s not found", id)));
+        profiled("delete", () -> {
+            repository.delete(entity);
+            return null;
+        });
+        changeFeed.record(ChangeType.DELETED, entity);
     }
 
     public boolean existsById(UUID id) {
-        return repository.existsById(id);
+        return profiled("existsById", () -> repository.existsById(id));
+    }
+
+    /**
+     * Runs a repository call inside a {@link RepositoryCallEvent}, so time
+     * spent in Hibernate, including flushes triggered by the call, shows up
+     * per entity and operation in JFR.
+     */
+    protected <R> R profiled(String operation, Supplier<R> call) {
+        var event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return call.get();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                var entityType = GenericTypeResolver.resolveTypeArgument(ClassUtils.getUserClass(getClass()),
+                        CrudService.class);
+                event.operation = (entityType == null ? "?" : entityType.getSimpleName()) + "." + operation;
+                event.commit();
+            }
+        }
     }
 }
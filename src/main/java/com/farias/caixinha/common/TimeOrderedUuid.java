@@ -0,0 +1,22 @@
+package com.farias.caixinha.common;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates {@link BaseEntity} ids as time-ordered UUIDv7 values, so new rows
+ * are appended at the end of the primary key index instead of being scattered
+ * across it. Ids that are already assigned are kept.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface TimeOrderedUuid {
+
+}
@@ -0,0 +1,56 @@
+package com.farias.caixinha.common;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final Object LOCK = new Object();
+    private static long lastMillis;
+    private static int sequence;
+
+    public TimeOrderedUuidGenerator() {
+    }
+
+    public TimeOrderedUuidGenerator(TimeOrderedUuid config) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object instanceof BaseEntity entity && entity.getId() != null) {
+            return entity.getId();
+        }
+        return next();
+    }
+
+    /**
+     * RFC 9562 UUIDv7: 48 bits of Unix epoch milliseconds, then a 12 bit
+     * counter in {@code rand_a} that keeps ids generated within the same
+     * millisecond strictly increasing, then 62 random bits.
+     */
+    public static UUID next() {
+        long millis;
+        int counter;
+        synchronized (LOCK) {
+            var now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = 0;
+            } else if (++sequence > MAX_SEQUENCE) {
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            counter = sequence;
+        }
+        var mostSigBits = (millis << 16) | 0x7000L | counter;
+        var leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+public class ChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String entityType;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID entityId;
+    @Enumerated(EnumType.STRING)
+    private ChangeType type;
+    @Column(length = 65535)
+    private String payload;
+    private Instant createdAt;
+
+    static ChangeEvent of(ChangeType type, String entityType, UUID entityId, String payload) {
+        var event = new ChangeEvent();
+        event.setType(type);
+        event.setEntityType(entityType);
+        event.setEntityId(entityId);
+        event.setPayload(payload);
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+
+    static ChangeEvent heartbeat(long sequence) {
+        var event = new ChangeEvent();
+        event.setId(sequence);
+        event.setType(ChangeType.HEARTBEAT);
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+
+}
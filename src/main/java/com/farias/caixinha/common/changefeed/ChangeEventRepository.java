@@ -0,0 +1,29 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    List<ChangeEvent> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    Optional<ChangeEvent> findFirstByCreatedAtBeforeOrderByIdDesc(Instant cutoff);
+
+    Optional<ChangeEvent> findFirstByOrderByIdAsc();
+
+    Optional<ChangeEvent> findFirstByOrderByIdDesc();
+
+    @Modifying
+    @Query("delete from ChangeEvent e where e.id > :after and e.id <= :upTo")
+    int deleteRange(@Param("after") long after, @Param("upTo") long upTo);
+
+}
@@ -0,0 +1,60 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.farias.caixinha.common.BaseEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+/**
+ * Sequence-numbered log of entity changes. Events are written in the caller's
+ * transaction, so a change and its event commit together, and SQLite's single
+ * writer guarantees sequence numbers become visible in order.
+ */
+@Service
+public class ChangeFeed {
+
+    @Autowired
+    ChangeEventRepository repository;
+
+    @Autowired
+    ReplicationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Transactional(TxType.MANDATORY)
+    public ChangeEvent record(ChangeType type, BaseEntity entity) {
+        return repository.save(ChangeEvent.of(type, entity.getClass().getSimpleName(), entity.getId(),
+                serialize(entity)));
+    }
+
+    public List<ChangeEvent> read(long after, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Highest sequence removed by {@link ChangeFeedPruner}. Readers positioned
+     * before it have missed changes and cannot catch up from the feed.
+     */
+    public long prunedUpTo() {
+        return checkpointRepository.findById(ChangeFeedPruner.PRUNED).map(ReplicationCheckpoint::getSequence)
+                .orElse(0L);
+    }
+
+    private String serialize(BaseEntity entity) {
+        try {
+            return objectMapper.writeValueAsString(entity);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize " + entity.getClass().getSimpleName(), e);
+        }
+    }
+
+}
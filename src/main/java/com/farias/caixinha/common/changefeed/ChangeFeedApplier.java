@@ -0,0 +1,72 @@
+package com.farias.caixinha.common.changefeed;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * Applies change events to the local store and records the applied sequence
+ * in the same transaction, so a follower restarts exactly where it stopped.
+ */
+@Component
+public class ChangeFeedApplier {
+
+    static final String LEADER = "leader";
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ReplicationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    ChangeEventRepository changeEventRepository;
+
+    @Transactional
+    public void apply(ChangeEvent event) {
+        var entityClass = entityClass(event.getEntityType());
+        if (event.getType() == ChangeType.DELETED) {
+            var existing = entityManager.find(entityClass, event.getEntityId());
+            if (existing != null) {
+                entityManager.remove(existing);
+            }
+        } else {
+            entityManager.merge(deserialize(event, entityClass));
+        }
+        checkpointRepository.save(new ReplicationCheckpoint(LEADER, event.getId()));
+    }
+
+    /**
+     * A follower seeded from a copy of the leader's database has no checkpoint
+     * yet and resumes after the newest change event in the copy.
+     */
+    public long lastApplied() {
+        return checkpointRepository.findById(LEADER).map(ReplicationCheckpoint::getSequence)
+                .orElseGet(() -> changeEventRepository.findFirstByOrderByIdDesc().map(ChangeEvent::getId).orElse(0L));
+    }
+
+    private Class<?> entityClass(String entityType) {
+        return entityManager.getMetamodel().getEntities().stream()
+                .filter(entity -> entity.getName().equals(entityType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown entity type " + entityType))
+                .getJavaType();
+    }
+
+    private Object deserialize(ChangeEvent event, Class<?> entityClass) {
+        try {
+            return objectMapper.readValue(event.getPayload(), entityClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read change event " + event.getId(), e);
+        }
+    }
+
+}
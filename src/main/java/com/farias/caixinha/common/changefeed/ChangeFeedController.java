@@ -0,0 +1,111 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@RestController
+@RequestMapping("/changes")
+public class ChangeFeedController {
+
+    private static final int MAX_LIMIT = 5000;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${caixinha.changefeed.batch-size:500}")
+    int batchSize;
+
+    @Value("${caixinha.changefeed.poll-interval:200ms}")
+    Duration pollInterval;
+
+    @Value("${caixinha.changefeed.heartbeat-interval:1s}")
+    Duration heartbeatInterval;
+
+    @Value("${caixinha.changefeed.stream-duration:30s}")
+    Duration streamDuration;
+
+    @GetMapping
+    public List<ChangeEvent> read(@RequestParam(name = "after", defaultValue = "0") long after,
+            @RequestParam(name = "limit", defaultValue = "500") int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_LIMIT);
+        }
+        checkRetained(after);
+        return changeFeed.read(after, limit);
+    }
+
+    /**
+     * Streams events after {@code after} as newline-delimited JSON for
+     * {@code caixinha.changefeed.stream-duration}, then ends the response so
+     * followers reconnect from their last applied sequence. Whenever the
+     * stream has caught up a heartbeat carrying the current sequence is sent,
+     * at most once per {@code caixinha.changefeed.heartbeat-interval}.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(@RequestParam(name = "after", defaultValue = "0") long after) {
+        checkRetained(after);
+        StreamingResponseBody body = out -> {
+            var cursor = after;
+            var deadline = System.nanoTime() + streamDuration.toNanos();
+            var lastHeartbeat = System.nanoTime() - heartbeatInterval.toNanos();
+            while (System.nanoTime() - deadline < 0) {
+                var batch = changeFeed.read(cursor, batchSize);
+                for (var event : batch) {
+                    writeLine(out, event);
+                    cursor = event.getId();
+                }
+                if (batch.size() < batchSize) {
+                    if (System.nanoTime() - lastHeartbeat >= heartbeatInterval.toNanos()) {
+                        writeLine(out, ChangeEvent.heartbeat(cursor));
+                        lastHeartbeat = System.nanoTime();
+                    }
+                    out.flush();
+                    sleep(pollInterval);
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void checkRetained(long after) {
+        var prunedUpTo = changeFeed.prunedUpTo();
+        if (after < prunedUpTo) {
+            throw new ResponseStatusException(HttpStatus.GONE,
+                    "Changes up to sequence " + prunedUpTo + " have been pruned");
+        }
+    }
+
+    private void writeLine(OutputStream out, ChangeEvent event) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(event));
+        out.write('\n');
+    }
+
+    private static void sleep(Duration duration) throws IOException {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Change stream interrupted", e);
+        }
+    }
+
+}
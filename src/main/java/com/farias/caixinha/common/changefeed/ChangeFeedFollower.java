@@ -0,0 +1,138 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tails the leader's change stream into the local store. The follower counts
+ * as fresh as of the last heartbeat received while fully caught up, which
+ * bounds the staleness of reads served from the local store.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "caixinha.replication.mode", havingValue = "follower")
+public class ChangeFeedFollower {
+
+    @Autowired
+    ChangeFeedApplier applier;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${caixinha.replication.leader-url}")
+    String leaderUrl;
+
+    @Value("${caixinha.replication.retry-backoff:1s}")
+    Duration retryBackoff;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private volatile long appliedSequence;
+    private volatile Instant caughtUpAt;
+    private volatile boolean running;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        appliedSequence = applier.lastApplied();
+        running = true;
+        worker = new Thread(this::tail, "change-feed-follower");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Time since the follower last confirmed it had every change, or
+     * {@code null} if it has not caught up since startup.
+     */
+    public Duration staleness() {
+        var at = caughtUpAt;
+        return at == null ? null : Duration.between(at, Instant.now());
+    }
+
+    private void tail() {
+        while (running) {
+            try {
+                follow();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Change stream from {} failed, retrying in {}: {}", leaderUrl, retryBackoff, e.getMessage());
+                pause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void follow() throws IOException, InterruptedException {
+        var uri = URI.create(leaderUrl + "/changes/stream?after=" + appliedSequence);
+        var response = client.send(HttpRequest.newBuilder(uri).GET().build(), BodyHandlers.ofLines());
+        if (response.statusCode() == 410) {
+            response.body().close();
+            throw new IOException("Leader pruned changes after sequence " + appliedSequence
+                    + ", reseed this follower from a copy of the leader database");
+        }
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("Leader answered HTTP " + response.statusCode());
+        }
+        try (var lines = response.body()) {
+            var iterator = lines.iterator();
+            while (running && iterator.hasNext()) {
+                var line = iterator.next();
+                if (!line.isBlank()) {
+                    handle(objectMapper.readValue(line, ChangeEvent.class));
+                }
+            }
+        }
+    }
+
+    private void handle(ChangeEvent event) {
+        if (event.getType() == ChangeType.HEARTBEAT) {
+            if (event.getId() <= appliedSequence) {
+                caughtUpAt = Instant.now();
+            }
+        } else if (event.getId() > appliedSequence) {
+            applier.apply(event);
+            appliedSequence = event.getId();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(retryBackoff.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
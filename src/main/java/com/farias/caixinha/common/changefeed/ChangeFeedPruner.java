@@ -0,0 +1,68 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes change events older than {@code caixinha.changefeed.retention} in
+ * id-ordered batches. The highest pruned sequence is kept as a watermark so
+ * followers that fell further behind get an explicit error instead of
+ * silently skipping changes.
+ */
+@Component
+@ConditionalOnProperty(name = "caixinha.replication.mode", havingValue = "leader", matchIfMissing = true)
+public class ChangeFeedPruner {
+
+    static final String PRUNED = "pruned";
+
+    @Autowired
+    ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    ReplicationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Value("${caixinha.changefeed.retention:7d}")
+    Duration retention;
+
+    @Value("${caixinha.changefeed.prune-batch-size:1000}")
+    int batchSize;
+
+    @Scheduled(cron = "${caixinha.changefeed.prune-cron:0 0 * * * *}")
+    public void prune() {
+        prune(Instant.now());
+    }
+
+    public long prune(Instant now) {
+        var upTo = changeEventRepository.findFirstByCreatedAtBeforeOrderByIdDesc(now.minus(retention))
+                .map(ChangeEvent::getId)
+                .orElse(0L);
+        var oldest = changeEventRepository.findFirstByOrderByIdAsc().map(ChangeEvent::getId).orElse(upTo + 1);
+        var watermark = Math.max(changeFeed.prunedUpTo(), oldest - 1);
+        long deleted = 0;
+        while (watermark < upTo) {
+            var after = watermark;
+            var batchEnd = Math.min(upTo, after + batchSize);
+            deleted += transactionTemplate.execute(status -> {
+                var count = changeEventRepository.deleteRange(after, batchEnd);
+                checkpointRepository.save(new ReplicationCheckpoint(PRUNED, batchEnd));
+                return count;
+            });
+            watermark = batchEnd;
+        }
+        return deleted;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.farias.caixinha.common.changefeed;
+
+public enum ChangeType {
+
+    CREATED,
+    UPDATED,
+    DELETED,
+    WITHDRAWN,
+    RESET,
+    TRANSFERRED,
+    /**
+     * Never persisted. Sent on the stream to tell followers they have seen
+     * every change up to the heartbeat's sequence.
+     */
+    HEARTBEAT
+
+}
@@ -0,0 +1,45 @@
+package com.farias.caixinha.common.changefeed;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Makes a follower read-only and refuses reads once it has not confirmed being
+ * caught up with the leader for longer than the configured staleness bound.
+ */
+public class FollowerInterceptor implements HandlerInterceptor {
+
+    static final String STALENESS_HEADER = "X-Replica-Staleness-Ms";
+
+    private final ChangeFeedFollower follower;
+    private final Duration maxStaleness;
+
+    public FollowerInterceptor(ChangeFeedFollower follower, Duration maxStaleness) {
+        this.follower = follower;
+        this.maxStaleness = maxStaleness;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var method = HttpMethod.valueOf(request.getMethod());
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS) {
+            throw new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED,
+                    "This instance is a read-only follower, send writes to the leader");
+        }
+        var staleness = follower.staleness();
+        if (staleness == null || staleness.compareTo(maxStaleness) > 0) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Follower is more than " + maxStaleness.toMillis() + "ms behind the leader");
+        }
+        response.setHeader(STALENESS_HEADER, String.valueOf(staleness.toMillis()));
+        return true;
+    }
+
+}
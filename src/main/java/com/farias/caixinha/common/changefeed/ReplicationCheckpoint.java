@@ -0,0 +1,21 @@
+package com.farias.caixinha.common.changefeed;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplicationCheckpoint {
+
+    @Id
+    private String source;
+    private long sequence;
+
+}
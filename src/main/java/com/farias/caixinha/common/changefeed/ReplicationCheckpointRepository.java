@@ -0,0 +1,9 @@
+package com.farias.caixinha.common.changefeed;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReplicationCheckpointRepository extends JpaRepository<ReplicationCheckpoint, String> {
+
+}
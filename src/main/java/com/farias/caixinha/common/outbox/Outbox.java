@@ -0,0 +1,49 @@
+package com.farias.caixinha.common.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+/**
+ * Queues integration events for downstream systems. Messages are inserted in
+ * the caller's transaction, so they exist if and only if the change that
+ * produced them committed; {@link OutboxRelay} delivers them afterwards.
+ */
+@Service
+public class Outbox {
+
+    @Autowired
+    OutboxMessageRepository repository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Transactional(TxType.MANDATORY)
+    public OutboxMessage enqueue(String eventType, UUID aggregateId, Object payload) {
+        var now = Instant.now();
+        var message = new OutboxMessage();
+        message.setEventType(eventType);
+        message.setAggregateId(aggregateId);
+        message.setPayload(serialize(payload));
+        message.setCreatedAt(now);
+        message.setNextAttemptAt(now);
+        return repository.save(message);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+}
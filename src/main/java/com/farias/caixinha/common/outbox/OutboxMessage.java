@@ -0,0 +1,44 @@
+package com.farias.caixinha.common.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String eventType;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID aggregateId;
+    @JsonRawValue
+    @Column(length = 65535)
+    private String payload;
+    private Instant createdAt;
+    @JsonIgnore
+    private int attempts;
+    @JsonIgnore
+    private Instant nextAttemptAt;
+    @JsonIgnore
+    @Column(length = 1024)
+    private String lastError;
+
+}
@@ -0,0 +1,97 @@
+package com.farias.caixinha.common.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers due outbox messages in batches to every {@link OutboxSink}. No
+ * transaction is held while sinks run. A batch is deleted only after all
+ * sinks accepted it; otherwise each message is retried with exponential
+ * backoff, which may redeliver it to sinks that already succeeded.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "caixinha.replication.mode", havingValue = "leader", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    @Autowired
+    OutboxMessageRepository repository;
+
+    @Autowired(required = false)
+    List<OutboxSink> sinks = List.of();
+
+    @Value("${caixinha.outbox.batch-size:100}")
+    int batchSize;
+
+    @Value("${caixinha.outbox.initial-backoff:1s}")
+    Duration initialBackoff;
+
+    @Value("${caixinha.outbox.max-backoff:5m}")
+    Duration maxBackoff;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkSinks() {
+        if (sinks.isEmpty()) {
+            log.warn("No outbox sinks are configured, {} pending outbox messages and every new one will be kept "
+                    + "undelivered. Enable caixinha.outbox.sinks.file.enabled or set "
+                    + "caixinha.outbox.sinks.webhook.url.", repository.count());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${caixinha.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        if (sinks.isEmpty()) {
+            return;
+        }
+        List<OutboxMessage> batch;
+        do {
+            batch = repository.findByNextAttemptAtLessThanEqualOrderByIdAsc(Instant.now(),
+                    PageRequest.of(0, batchSize));
+        } while (!batch.isEmpty() && dispatch(batch) && batch.size() == batchSize);
+    }
+
+    private boolean dispatch(List<OutboxMessage> batch) {
+        for (var sink : sinks) {
+            try {
+                sink.deliver(batch);
+            } catch (Exception e) {
+                log.warn("Outbox sink {} failed to deliver {} messages: {}", sink.getName(), batch.size(),
+                        e.getMessage());
+                reschedule(batch, sink.getName() + ": " + e.getMessage());
+                return false;
+            }
+        }
+        repository.deleteAllByIdInBatch(batch.stream().map(OutboxMessage::getId).toList());
+        return true;
+    }
+
+    private void reschedule(List<OutboxMessage> batch, String error) {
+        var now = Instant.now();
+        for (var message : batch) {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plus(backoff(message.getAttempts())));
+            message.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+        repository.saveAll(batch);
+    }
+
+    Duration backoff(int attempts) {
+        var delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.farias.caixinha.common.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for outbox messages. Delivery is at least once: a batch may be
+ * handed to a sink again after a failure or restart, so sinks and their
+ * consumers should deduplicate on {@link OutboxMessage#getId()}.
+ */
+public interface OutboxSink {
+
+    String getName();
+
+    void deliver(List<OutboxMessage> batch) throws Exception;
+
+}
@@ -0,0 +1,56 @@
+package com.farias.caixinha.common.outbox;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Posts each batch as a JSON array to {@code caixinha.outbox.sinks.webhook.url}
+ * and treats any non-2xx answer as a failed delivery.
+ */
+@Component
+@ConditionalOnProperty(name = "caixinha.outbox.sinks.webhook.url")
+public class WebhookOutboxSink implements OutboxSink {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${caixinha.outbox.sinks.webhook.url}")
+    String url;
+
+    @Value("${caixinha.outbox.sinks.webhook.timeout:5s}")
+    Duration timeout;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> batch) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                .build();
+        var response = client.send(request, BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook answered HTTP " + response.statusCode());
+        }
+    }
+
+}
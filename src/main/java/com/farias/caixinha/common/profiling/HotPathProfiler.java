@@ -0,0 +1,181 @@
+package com.farias.caixinha.common.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumes the application's JFR events in process and keeps per-operation
+ * summaries and the slowest operations for a rolling window. Statistics are
+ * kept for the current and the previous window, so a summary always covers
+ * between one and two windows of traffic. The stream also retains raw events
+ * for {@code caixinha.profiling.max-age} so they can be dumped as a regular
+ * recording.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "caixinha.profiling.enabled", havingValue = "true")
+public class HotPathProfiler {
+
+    private static final List<String> EVENTS = List.of(MappingEvent.NAME, RepositoryCallEvent.NAME,
+            LockAcquisitionEvent.NAME);
+    private static final Comparator<SlowOperation> BY_DURATION = Comparator
+            .comparingDouble(SlowOperation::durationMillis);
+
+    @Value("${caixinha.profiling.threshold:10ms}")
+    Duration threshold;
+
+    @Value("${caixinha.profiling.window:1m}")
+    Duration window;
+
+    @Value("${caixinha.profiling.max-age:10m}")
+    Duration maxAge;
+
+    @Value("${caixinha.profiling.slowest-size:100}")
+    int slowestSize;
+
+    private RecordingStream stream;
+
+    private Window current;
+
+    private Window previous;
+
+    @PostConstruct
+    void start() {
+        var now = Instant.now();
+        current = new Window(now);
+        previous = new Window(now.minus(window));
+        stream = new RecordingStream();
+        stream.setMaxAge(maxAge);
+        for (var name : EVENTS) {
+            stream.enable(name).withThreshold(threshold);
+            stream.onEvent(name, this::accept);
+        }
+        stream.enable("jdk.GarbageCollection");
+        stream.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ofMillis(10));
+        stream.onError(e -> log.warn("Profiling stream failed: {}", e.getMessage()));
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        stream.close();
+    }
+
+    void accept(RecordedEvent event) {
+        var name = event.getEventType().getName();
+        var operation = event.getString("operation");
+        var duration = event.getDuration();
+        var slow = new SlowOperation(name, operation, event.getString("detail"), toMillis(duration.toNanos()),
+                event.getStartTime(), event.getThread() == null ? null : event.getThread().getJavaName());
+        synchronized (this) {
+            rotate(Instant.now());
+            current.stats.computeIfAbsent(name + " " + operation, key -> new Stats(name, operation))
+                    .add(duration.toNanos());
+            current.slowest.offer(slow);
+            if (current.slowest.size() > slowestSize) {
+                current.slowest.poll();
+            }
+        }
+    }
+
+    public synchronized List<OperationSummary> summary() {
+        rotate(Instant.now());
+        var merged = new HashMap<String, Stats>();
+        for (var w : List.of(previous, current)) {
+            w.stats.forEach((key, stats) -> merged.computeIfAbsent(key, k -> new Stats(stats.event, stats.operation))
+                    .merge(stats));
+        }
+        return merged.values().stream()
+                .map(Stats::toSummary)
+                .sorted(Comparator.comparingDouble(OperationSummary::totalMillis).reversed())
+                .toList();
+    }
+
+    public synchronized List<SlowOperation> slowest(int limit) {
+        rotate(Instant.now());
+        var all = new ArrayList<SlowOperation>(previous.slowest);
+        all.addAll(current.slowest);
+        return all.stream().sorted(BY_DURATION.reversed()).limit(limit).toList();
+    }
+
+    /**
+     * Writes the events retained by the stream to a JFR file that can be opened
+     * with JDK Mission Control or {@code jfr print}.
+     */
+    public void dump(Path file) throws IOException {
+        stream.dump(file);
+    }
+
+    private void rotate(Instant now) {
+        var elapsed = Duration.between(current.start, now).dividedBy(window);
+        if (elapsed <= 0) {
+            return;
+        }
+        var start = current.start.plus(window.multipliedBy(elapsed));
+        previous = elapsed == 1 ? current : new Window(start.minus(window));
+        current = new Window(start);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Window {
+        final Instant start;
+        final Map<String, Stats> stats = new HashMap<>();
+        final PriorityQueue<SlowOperation> slowest = new PriorityQueue<>(BY_DURATION);
+
+        Window(Instant start) {
+            this.start = start;
+        }
+    }
+
+    private static class Stats {
+        final String event;
+        final String operation;
+        long count;
+        long totalNanos;
+        long maxNanos;
+
+        Stats(String event, String operation) {
+            this.event = event;
+            this.operation = operation;
+        }
+
+        void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        void merge(Stats other) {
+            count += other.count;
+            totalNanos += other.totalNanos;
+            maxNanos = Math.max(maxNanos, other.maxNanos);
+        }
+
+        OperationSummary toSummary() {
+            return new OperationSummary(event, operation, count, toMillis(totalNanos),
+                    count == 0 ? 0 : toMillis(totalNanos / count), toMillis(maxNanos));
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.farias.caixinha.common.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(LockAcquisitionEvent.NAME)
+@Label("Lock Acquisition")
+@Category("Caixinha")
+@StackTrace(false)
+public class LockAcquisitionEvent extends Event {
+
+    public static final String NAME = "caixinha.LockAcquisition";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Detail")
+    public String detail;
+
+}
@@ -0,0 +1,6 @@
+package com.farias.caixinha.common.profiling;
+
+public record OperationSummary(String event, String operation, long count, double totalMillis, double avgMillis,
+        double maxMillis) {
+
+}
@@ -0,0 +1,59 @@
+package com.farias.caixinha.common.profiling;
+
+import java.nio.file.Files;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/admin/profiling")
+@ConditionalOnProperty(name = "caixinha.profiling.enabled", havingValue = "true")
+public class ProfilingController {
+
+    private static final int MAX_LIMIT = 100;
+
+    @Autowired
+    HotPathProfiler profiler;
+
+    @GetMapping("/summary")
+    public List<OperationSummary> summary() {
+        return profiler.summary();
+    }
+
+    @GetMapping("/slowest")
+    public List<SlowOperation> slowest(@RequestParam(name = "limit", defaultValue = "20") int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return profiler.slowest(limit);
+    }
+
+    @GetMapping("/recording")
+    public ResponseEntity<StreamingResponseBody> recording() {
+        StreamingResponseBody body = out -> {
+            var file = Files.createTempFile("caixinha-", ".jfr");
+            try {
+                profiler.dump(file);
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"caixinha.jfr\"")
+                .body(body);
+    }
+
+}
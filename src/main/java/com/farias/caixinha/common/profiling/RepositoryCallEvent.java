@@ -0,0 +1,23 @@
+package com.farias.caixinha.common.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Category("Caixinha")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    public static final String NAME = "caixinha.RepositoryCall";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Detail")
+    public String detail;
+
+}
@@ -0,0 +1,8 @@
+package com.farias.caixinha.common.profiling;
+
+import java.time.Instant;
+
+public record SlowOperation(String event, String operation, String detail, double durationMillis, Instant startTime,
+        String thread) {
+
+}
@@ -0,0 +1,31 @@
+package com.farias.caixinha.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.farias.caixinha.common.changefeed.ChangeFeedFollower;
+import com.farias.caixinha.common.changefeed.FollowerInterceptor;
+
+@Configuration
+@ConditionalOnProperty(name = "caixinha.replication.mode", havingValue = "follower")
+public class ReplicationConfig implements WebMvcConfigurer {
+
+    @Autowired
+    ChangeFeedFollower follower;
+
+    @Value("${caixinha.replication.max-staleness:5s}")
+    Duration maxStaleness;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new FollowerInterceptor(follower, maxStaleness))
+                .excludePathPatterns("/v3/api-docs/**", "/swagger-ui/**", "/changes/**");
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.farias.caixinha.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs streaming responses, which are the change streams held open by
+ * followers, on a pool sized by {@code caixinha.changefeed.stream-threads}.
+ * Each follower occupies one thread for a whole stream, so the pool bounds
+ * the number of concurrent followers. It has no queue: once it is full a new
+ * stream is rejected and its follower retries, instead of waiting unnoticed
+ * until it becomes stale. The pool is not a bean, so it does not replace
+ * Boot's application task executor.
+ */
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    public StreamingConfig(@Value("${caixinha.changefeed.stream-threads:64}") int streamThreads) {
+        executor.setCorePoolSize(streamThreads);
+        executor.setMaxPoolSize(streamThreads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("change-stream-");
+        executor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.farias.caixinha.application.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BudgetHierarchyIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    Budget household;
+    Budget groceries;
+    Budget fuel;
+
+    @BeforeEach
+    void setUp() {
+        budgetRepository.deleteAll();
+        household = budgetService.create(budget("Household", "0", null));
+        groceries = budgetService.create(budget("Groceries", "500", household.getId()));
+        fuel = budgetService.create(budget("Fuel", "300", household.getId()));
+    }
+
+    @Test
+    public void testShouldAggregateChildrenOnCreate() {
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("800");
+        assertThat(subtreeBalance(groceries)).isEqualByComparingTo("500");
+    }
+
+    @Test
+    public void testShouldPropagateWithdrawalAndReset() {
+        budgetService.withdrawn(groceries.getId(), new BigDecimal("120"));
+
+        assertThat(subtreeBalance(groceries)).isEqualByComparingTo("380");
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("680");
+
+        budgetService.resetBalance(groceries.getId());
+
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("800");
+    }
+
+    @Test
+    public void testShouldPropagateThroughSeveralLevels() {
+        var market = budgetService.create(budget("Market", "100", groceries.getId()));
+
+        budgetService.withdrawn(market.getId(), new BigDecimal("40"));
+
+        assertThat(subtreeBalance(groceries)).isEqualByComparingTo("560");
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("860");
+    }
+
+    @Test
+    public void testShouldMoveSubtreeOnReparent() {
+        var car = budgetService.create(budget("Car", "0", null));
+        var moved = budgetRepository.findById(fuel.getId()).orElseThrow();
+        moved.setParentId(car.getId());
+        moved.setBalance(new BigDecimal("250"));
+
+        budgetService.update(moved);
+
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("500");
+        assertThat(subtreeBalance(car)).isEqualByComparingTo("250");
+    }
+
+    @Test
+    public void testShouldPersistPartialUpdate() throws Exception {
+        mockMvc.perform(patch("/budget/{id}", fuel.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Gas\",\"balance\":40}"))
+                .andExpect(status().isOk());
+
+        var patched = budgetRepository.findById(fuel.getId()).orElseThrow();
+        assertThat(patched.getName()).isEqualTo("Gas");
+        assertThat(patched.getBalance()).isEqualByComparingTo("40");
+        assertThat(patched.getSubtreeBalance()).isEqualByComparingTo("40");
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("540");
+    }
+
+    @Test
+    public void testShouldPropagateWhenUpdatingManagedBudget() {
+        var car = budgetService.create(budget("Car", "0", null));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var managed = budgetRepository.findById(fuel.getId()).orElseThrow();
+            managed.setParentId(car.getId());
+            managed.setBalance(new BigDecimal("250"));
+            budgetService.update(managed);
+        });
+
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("500");
+        assertThat(subtreeBalance(car)).isEqualByComparingTo("250");
+        assertThat(subtreeBalance(fuel)).isEqualByComparingTo("250");
+    }
+
+    @Test
+    public void testShouldRejectCreateWithExistingId() {
+        var duplicate = budget("Household", "10", null);
+        duplicate.setId(household.getId());
+
+        var exception = assertThrows(ResponseStatusException.class, () -> budgetService.create(duplicate));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("800");
+    }
+
+    @Test
+    public void testShouldSubtractOnDelete() {
+        budgetService.deleteById(fuel.getId());
+
+        assertThat(subtreeBalance(household)).isEqualByComparingTo("500");
+    }
+
+    @Test
+    public void testShouldRejectDeletingParent() {
+        var exception = assertThrows(ResponseStatusException.class,
+                () -> budgetService.deleteById(household.getId()));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    public void testShouldRejectCycles() {
+        var parent = budgetRepository.findById(household.getId()).orElseThrow();
+        parent.setParentId(groceries.getId());
+
+        var exception = assertThrows(ResponseStatusException.class, () -> budgetService.update(parent));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testShouldRejectUnknownParent() {
+        var exception = assertThrows(ResponseStatusException.class,
+                () -> budgetService.create(budget("Orphan", "10", UUID.randomUUID())));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private BigDecimal subtreeBalance(Budget budget) {
+        return budgetRepository.findById(budget.getId()).orElseThrow().getSubtreeBalance();
+    }
+
+    private Budget budget(String name, String balance, UUID parentId) {
+        var budget = new Budget();
+        budget.setName(name);
+        budget.setInitialBalance(new BigDecimal(balance));
+        budget.setBalance(new BigDecimal(balance));
+        budget.setParentId(parentId);
+        return budget;
+    }
+
+}
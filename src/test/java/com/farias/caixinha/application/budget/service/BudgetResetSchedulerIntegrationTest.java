@@ -0,0 +1,125 @@
+package com.farias.caixinha.application.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.BudgetCycle;
+import com.farias.caixinha.application.budget.model.BudgetResetCheckpoint;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.repository.BudgetResetCheckpointRepository;
+
+@SpringBootTest(properties = "caixinha.budget.reset.chunk-size=2")
+@ActiveProfiles("test")
+public class BudgetResetSchedulerIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 0, 5);
+
+    @Autowired
+    BudgetResetScheduler scheduler;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    BudgetResetCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void tearDown() {
+        budgetRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    @Test
+    public void testShouldResetDueBudgetsInChunks() {
+        var due = new ArrayList<Budget>();
+        for (int i = 0; i < 5; i++) {
+            due.add(budget(BudgetCycle.MONTHLY, NOW.minusMinutes(5)));
+        }
+        var notDue = budget(BudgetCycle.MONTHLY, NOW.plusDays(1));
+        var otherCycle = budget(BudgetCycle.WEEKLY, NOW.minusMinutes(5));
+        budgetRepository.saveAll(due);
+        budgetRepository.saveAll(List.of(notDue, otherCycle));
+
+        var processed = scheduler.resetDueBudgets(BudgetCycle.MONTHLY, NOW);
+
+        assertThat(processed).isEqualTo(5);
+        for (var budget : due) {
+            var persisted = budgetRepository.findById(budget.getId()).orElseThrow();
+            assertThat(persisted.getBalance()).isEqualByComparingTo("100");
+            assertThat(persisted.getNextResetAt()).isEqualTo(LocalDateTime.of(2024, 4, 1, 0, 0));
+        }
+        assertThat(budgetRepository.findById(notDue.getId()).orElseThrow().getBalance()).isEqualByComparingTo("10");
+        assertThat(budgetRepository.findById(otherCycle.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("10");
+        assertThat(checkpointRepository.findById(BudgetCycle.MONTHLY)).get()
+                .extracting(BudgetResetCheckpoint::isCompleted).isEqualTo(true);
+    }
+
+    @Test
+    public void testShouldResumeFromCheckpoint() {
+        var due = new ArrayList<Budget>();
+        for (int i = 0; i < 4; i++) {
+            due.add(budget(BudgetCycle.MONTHLY, NOW.minusMinutes(5)));
+        }
+        budgetRepository.saveAll(due);
+        var ids = budgetRepository.findDueIds(BudgetCycle.MONTHLY, NOW, new UUID(0L, 0L), Pageable.unpaged());
+
+        var checkpoint = BudgetResetCheckpoint.start(BudgetCycle.MONTHLY, NOW);
+        checkpoint.setLastBudgetId(ids.get(1));
+        checkpoint.setProcessed(2);
+        checkpointRepository.save(checkpoint);
+
+        var processed = scheduler.resetDueBudgets(BudgetCycle.MONTHLY, NOW.plusHours(1));
+
+        assertThat(processed).isEqualTo(4);
+        assertThat(budgetRepository.findById(ids.get(0)).orElseThrow().getBalance()).isEqualByComparingTo("10");
+        assertThat(budgetRepository.findById(ids.get(1)).orElseThrow().getBalance()).isEqualByComparingTo("10");
+        assertThat(budgetRepository.findById(ids.get(2)).orElseThrow().getBalance()).isEqualByComparingTo("100");
+        assertThat(budgetRepository.findById(ids.get(3)).orElseThrow().getBalance()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    public void testShouldPropagateResetsOfNestedBudgets() {
+        var household = budget(null, null);
+        household.setBalance(BigDecimal.ZERO);
+        household.setSubtreeBalance(new BigDecimal("20"));
+        budgetRepository.save(household);
+        var groceries = budget(BudgetCycle.MONTHLY, NOW.minusMinutes(5));
+        groceries.setParentId(household.getId());
+        var fuel = budget(BudgetCycle.MONTHLY, NOW.minusMinutes(5));
+        fuel.setParentId(household.getId());
+        budgetRepository.saveAll(List.of(groceries, fuel));
+
+        scheduler.resetDueBudgets(BudgetCycle.MONTHLY, NOW);
+
+        assertThat(budgetRepository.findById(groceries.getId()).orElseThrow().getSubtreeBalance())
+                .isEqualByComparingTo("100");
+        assertThat(budgetRepository.findById(household.getId()).orElseThrow().getSubtreeBalance())
+                .isEqualByComparingTo("200");
+    }
+
+    private Budget budget(BudgetCycle cycle, LocalDateTime nextResetAt) {
+        var budget = new Budget();
+        budget.setName("Budget");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("10"));
+        budget.setSubtreeBalance(new BigDecimal("10"));
+        budget.setCycle(cycle);
+        budget.setNextResetAt(nextResetAt);
+        return budget;
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.farias.caixinha.application.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.Transfer;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BudgetTransferIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 100;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    Budget household;
+    Budget groceries;
+    Budget fuel;
+    Budget savings;
+
+    @BeforeEach
+    void setUp() {
+        budgetRepository.deleteAll();
+        household = budgetService.create(budget("Household", "0", null));
+        groceries = budgetService.create(budget("Groceries", "500", household.getId()));
+        fuel = budgetService.create(budget("Fuel", "300", household.getId()));
+        savings = budgetService.create(budget("Savings", "1000", null));
+    }
+
+    @Test
+    public void testShouldMoveBalanceAndPropagate() {
+        budgetService.transfer(List.of(new Transfer(groceries.getId(), savings.getId(), new BigDecimal("200"))));
+
+        assertThat(reload(groceries).getBalance()).isEqualByComparingTo("300");
+        assertThat(reload(savings).getBalance()).isEqualByComparingTo("1200");
+        assertThat(reload(household).getSubtreeBalance()).isEqualByComparingTo("600");
+    }
+
+    @Test
+    public void testShouldNetOutTransfersWithinSubtree() {
+        budgetService.transfer(List.of(
+                new Transfer(groceries.getId(), fuel.getId(), new BigDecimal("50")),
+                new Transfer(fuel.getId(), savings.getId(), new BigDecimal("20"))));
+
+        assertThat(reload(groceries).getBalance()).isEqualByComparingTo("450");
+        assertThat(reload(fuel).getBalance()).isEqualByComparingTo("330");
+        assertThat(reload(savings).getBalance()).isEqualByComparingTo("1020");
+        assertThat(reload(household).getSubtreeBalance()).isEqualByComparingTo("780");
+    }
+
+    @Test
+    public void testShouldRollBackAllTransfersWhenOneBudgetIsMissing() {
+        var transfers = List.of(
+                new Transfer(groceries.getId(), savings.getId(), new BigDecimal("10")),
+                new Transfer(fuel.getId(), UUID.randomUUID(), new BigDecimal("10")));
+
+        var exception = assertThrows(ResponseStatusException.class, () -> budgetService.transfer(transfers));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(reload(groceries).getBalance()).isEqualByComparingTo("500");
+        assertThat(reload(savings).getBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    public void testShouldConserveTotalBalanceUnderConcurrentTransfers() throws Exception {
+        var ids = List.of(groceries.getId(), fuel.getId(), savings.getId(),
+                budgetService.create(budget("Car", "400", household.getId())).getId(),
+                budgetService.create(budget("Travel", "250", savings.getId())).getId());
+        var totalBefore = totalBalance();
+        var start = new CountDownLatch(1);
+        var transfers = new AtomicLong();
+        var failures = new ConcurrentLinkedQueue<Throwable>();
+        var executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        var batch = randomTransfers(ids);
+                        budgetService.transfer(batch);
+                        transfers.addAndGet(batch.size());
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        var began = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        var seconds = (System.nanoTime() - began) / 1e9;
+        System.out.printf("%d requests, %d transfers in %.2fs (%.0f requests/s)%n", THREADS * REQUESTS_PER_THREAD,
+                transfers.get(), seconds, THREADS * REQUESTS_PER_THREAD / seconds);
+
+        assertThat(failures).isEmpty();
+        assertThat(totalBalance()).isEqualByComparingTo(totalBefore);
+        for (var budget : budgetRepository.findAll()) {
+            var children = budgetRepository.findAll().stream()
+                    .filter(child -> budget.getId().equals(child.getParentId()))
+                    .map(Budget::getSubtreeBalance)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(budget.getSubtreeBalance()).isEqualByComparingTo(budget.getBalance().add(children));
+        }
+    }
+
+    private static List<Transfer> randomTransfers(List<UUID> ids) {
+        var random = ThreadLocalRandom.current();
+        var batch = new ArrayList<Transfer>();
+        for (int i = random.nextInt(1, 4); i > 0; i--) {
+            var from = ids.get(random.nextInt(ids.size()));
+            var to = ids.get(random.nextInt(ids.size()));
+            if (!from.equals(to)) {
+                batch.add(new Transfer(from, to, BigDecimal.valueOf(random.nextInt(1, 50))));
+            }
+        }
+        if (batch.isEmpty()) {
+            batch.add(new Transfer(ids.get(0), ids.get(1), BigDecimal.ONE));
+        }
+        return batch;
+    }
+
+    private BigDecimal totalBalance() {
+        return budgetRepository.findAll().stream().map(Budget::getBalance).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private Budget reload(Budget budget) {
+        return budgetRepository.findById(budget.getId()).orElseThrow();
+    }
+
+    private Budget budget(String name, String balance, UUID parentId) {
+        var budget = new Budget();
+        budget.setName(name);
+        budget.setInitialBalance(new BigDecimal(balance));
+        budget.setBalance(new BigDecimal(balance));
+        budget.setParentId(parentId);
+        return budget;
+    }
+
+}
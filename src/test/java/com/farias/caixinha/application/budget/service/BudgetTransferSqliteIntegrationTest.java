@@ -0,0 +1,68 @@
+package com.farias.caixinha.application.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the transfer tests, including the concurrent stress test, against a
+ * temporary SQLite file with the production connection settings. SQLite has
+ * no row locks, so this checks that taking the write lock up front serializes
+ * writers.
+ */
+public class BudgetTransferSqliteIntegrationTest extends BudgetTransferIntegrationTest {
+
+    @Autowired
+    BudgetLockService locks;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void sqlite(DynamicPropertyRegistry registry) throws IOException {
+        var database = Files.createTempFile("caixinha-transfer", ".sqlite");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+        registry.add("spring.datasource.driver-class-name", () -> "org.sqlite.JDBC");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.community.dialect.SQLiteDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.datasource.hikari.data-source-properties.busy_timeout", () -> "10000");
+        registry.add("spring.datasource.hikari.data-source-properties.journal_mode", () -> "WAL");
+    }
+
+    @Test
+    public void testShouldReadWhileWriterHoldsLock() throws Exception {
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var writer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            locks.beginWrite();
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            var read = CompletableFuture.supplyAsync(() -> budgetService.findById(savings.getId()));
+
+            assertThat(read.get(2, TimeUnit.SECONDS)).isPresent();
+        } finally {
+            release.countDown();
+            writer.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.farias.caixinha.application.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.Granularity;
+import com.farias.caixinha.application.budget.model.SpendingBucket;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.repository.SpendingRollupRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SpendingRollupServiceIntegrationTest {
+
+    @Autowired
+    SpendingRollupService spendingRollupService;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    SpendingRollupRepository rollupRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void tearDown() {
+        rollupRepository.deleteAll();
+        budgetRepository.deleteAll();
+    }
+
+    @Test
+    public void testShouldRollUpWithdrawals() {
+        var budget = new Budget();
+        budget.setName("Groceries");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("100"));
+        var id = budgetService.create(budget).getId();
+
+        budgetService.withdrawn(id, new BigDecimal("10"));
+        budgetService.withdrawn(id, new BigDecimal("5.50"));
+
+        var now = LocalDateTime.now();
+        for (var granularity : Granularity.values()) {
+            var history = spendingRollupService.history(id, granularity, now.minusDays(1), now);
+            assertThat(history.stream().map(SpendingBucket::amount).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .isEqualByComparingTo("15.50");
+            assertThat(history.stream().mapToLong(SpendingBucket::count).sum()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testShouldDeleteRollupsWithBudget() {
+        var budget = new Budget();
+        budget.setName("Fuel");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("100"));
+        var id = budgetService.create(budget).getId();
+        budgetService.withdrawn(id, new BigDecimal("10"));
+
+        budgetService.deleteById(id);
+
+        assertThat(rollupRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    public void testShouldReadOnlyRequestedBuckets() {
+        var id = UUID.randomUUID();
+        record(id, "10", LocalDateTime.of(2024, 1, 31, 23, 59));
+        record(id, "20", LocalDateTime.of(2024, 2, 1, 8, 15));
+        record(id, "30", LocalDateTime.of(2024, 2, 1, 8, 45));
+        record(id, "40", LocalDateTime.of(2024, 2, 2, 12, 0));
+        record(UUID.randomUUID(), "99", LocalDateTime.of(2024, 2, 1, 8, 0));
+
+        var daily = spendingRollupService.history(id, Granularity.DAILY, LocalDateTime.of(2024, 2, 1, 12, 0),
+                LocalDateTime.of(2024, 2, 3, 0, 0));
+        assertThat(daily).extracting(SpendingBucket::start)
+                .containsExactly(LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 2, 2, 0, 0));
+        assertThat(daily.get(0).amount()).isEqualByComparingTo("50");
+
+        var monthly = spendingRollupService.history(id, Granularity.MONTHLY, LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertThat(monthly).extracting(SpendingBucket::count).containsExactly(1L, 3L);
+
+        var hourly = spendingRollupService.history(id, Granularity.HOURLY, LocalDateTime.of(2024, 2, 1, 8, 0),
+                LocalDateTime.of(2024, 2, 1, 9, 0));
+        assertThat(hourly).hasSize(1);
+        assertThat(hourly.get(0).amount()).isEqualByComparingTo("50");
+    }
+
+    private void record(UUID budgetId, String amount, LocalDateTime at) {
+        transactionTemplate.executeWithoutResult(
+                status -> spendingRollupService.record(budgetId, new BigDecimal(amount), at));
+    }
+
+}
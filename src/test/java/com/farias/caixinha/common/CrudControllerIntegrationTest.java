@@ -1,5 +1,6 @@
 package com.farias.caixinha.common;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.farias.caixinha.common.CrudControllerIntegrationTest.CrudControllerTestConfiguration.FooController;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -142,6 +144,34 @@ public class CrudControllerIntegrationTest {
         }
     }
 
+    @Nested
+    class ContentNegotiationTest {
+        @Test
+        public void testShouldListAllEntitiesAsCbor() throws Exception {
+            Foo foo1 = new Foo(UUID.randomUUID(), "Foo bar");
+            when(fooService.listAll()).thenReturn(Arrays.asList(foo1));
+
+            var result = mockMvc.perform(MockMvcRequestBuilders.get("/foo").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andReturn();
+
+            FooDTO[] body = new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), FooDTO[].class);
+            assertThat(body).hasSize(1);
+            assertThat(body[0].getId()).isEqualTo(foo1.getId());
+            assertThat(body[0].getFoo()).isEqualTo("Foo bar");
+        }
+
+        @Test
+        public void testShouldDefaultToJson() throws Exception {
+            var id = UUID.randomUUID();
+            when(fooService.findById(id)).thenReturn(Optional.of(new Foo(id, "Foo bar")));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/foo/" + id))
+                    .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        }
+    }
+
     @Nested
     class UpdateTest {
         @Test
@@ -0,0 +1,50 @@
+package com.farias.caixinha.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    public void testShouldGenerateVersion7Ids() {
+        var before = System.currentTimeMillis();
+        var id = TimeOrderedUuidGenerator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1000);
+    }
+
+    @Test
+    public void testShouldGenerateStrictlyIncreasingIds() {
+        var previous = TimeOrderedUuidGenerator.next();
+        for (int i = 0; i < 10_000; i++) {
+            var current = TimeOrderedUuidGenerator.next();
+            assertThat(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()))
+                    .isNegative();
+            previous = current;
+        }
+    }
+
+    @Test
+    public void testShouldKeepAssignedId() {
+        var id = UUID.randomUUID();
+        var entity = new AssignedEntity();
+        entity.setId(id);
+
+        assertThat(new TimeOrderedUuidGenerator().generate(null, entity)).isEqualTo(id);
+    }
+
+    @Getter
+    @Setter
+    static class AssignedEntity implements BaseEntity {
+        UUID id;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.farias.caixinha.common.changefeed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.service.BudgetService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ChangeFeedIntegrationTest {
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    ChangeFeedApplier applier;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    ReplicationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    ChangeFeedPruner pruner;
+
+    @BeforeEach
+    void tearDown() {
+        budgetRepository.deleteAll();
+        changeEventRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    @Test
+    public void testShouldRecordChangesInOrder() {
+        var budget = budgetService.create(budget());
+        budgetService.withdrawn(budget.getId(), new BigDecimal("30"));
+        budgetService.resetBalance(budget.getId());
+        budgetService.deleteById(budget.getId());
+
+        var events = changeFeed.read(0, 10);
+
+        assertThat(events).extracting(ChangeEvent::getType)
+                .containsExactly(ChangeType.CREATED, ChangeType.WITHDRAWN, ChangeType.RESET, ChangeType.DELETED);
+        assertThat(events).extracting(ChangeEvent::getEntityId).containsOnly(budget.getId());
+        assertThat(events).extracting(ChangeEvent::getId).isSorted();
+        assertThat(changeFeed.read(events.get(1).getId(), 10)).hasSize(2);
+    }
+
+    @Test
+    public void testShouldApplyChangesToLocalStore() {
+        var budget = budgetService.create(budget());
+        budgetService.withdrawn(budget.getId(), new BigDecimal("30"));
+        var events = changeFeed.read(0, 10);
+        budgetRepository.deleteAll();
+
+        events.forEach(applier::apply);
+
+        var replicated = budgetRepository.findById(budget.getId());
+        assertThat(replicated).isPresent();
+        assertThat(replicated.get().getBalance()).isEqualByComparingTo("70");
+        assertThat(applier.lastApplied()).isEqualTo(events.get(events.size() - 1).getId());
+
+        var deleted = ChangeEvent.of(ChangeType.DELETED, "Budget", budget.getId(), null);
+        deleted.setId(applier.lastApplied() + 1);
+        applier.apply(deleted);
+
+        assertThat(budgetRepository.existsById(budget.getId())).isFalse();
+        assertThat(applier.lastApplied()).isEqualTo(deleted.getId());
+    }
+
+    @Test
+    public void testShouldPruneEventsOlderThanRetention() {
+        var budget = budgetService.create(budget());
+        budgetService.withdrawn(budget.getId(), new BigDecimal("30"));
+        var events = changeFeed.read(0, 10);
+
+        assertThat(pruner.prune(Instant.now())).isZero();
+
+        assertThat(pruner.prune(Instant.now().plus(Duration.ofDays(8)))).isEqualTo(events.size());
+        assertThat(changeFeed.read(0, 10)).isEmpty();
+        assertThat(changeFeed.prunedUpTo()).isEqualTo(events.get(events.size() - 1).getId());
+    }
+
+    private Budget budget() {
+        var budget = new Budget();
+        budget.setName("Groceries");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("100"));
+        return budget;
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.farias.caixinha.common.changefeed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.farias.caixinha.CaixinhaApplication;
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.service.BudgetService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs a follower context with its own database against this test's leader.
+ * The leader ends each stream after one second, so the follower has to
+ * reconnect from its checkpoint to see later changes.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "caixinha.changefeed.stream-duration=1s",
+        "caixinha.changefeed.heartbeat-interval=100ms",
+        "caixinha.changefeed.poll-interval=50ms" })
+@ActiveProfiles("test")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class ReplicationIntegrationTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    ReplicationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    ConfigurableApplicationContext follower;
+
+    URI followerUri;
+
+    @BeforeAll
+    void startFollower() {
+        budgetRepository.deleteAll();
+        changeEventRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        follower = new SpringApplicationBuilder(CaixinhaApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:follower;DB_CLOSE_DELAY=-1",
+                        "--caixinha.replication.mode=follower",
+                        "--caixinha.replication.leader-url=http://localhost:" + port,
+                        "--caixinha.replication.max-staleness=2s",
+                        "--caixinha.replication.retry-backoff=100ms");
+        var followerPort = ((WebServerApplicationContext) follower).getWebServer().getPort();
+        followerUri = URI.create("http://localhost:" + followerPort);
+    }
+
+    @AfterAll
+    void stopFollower() {
+        follower.close();
+    }
+
+    @Test
+    @Order(1)
+    public void testShouldStreamChangesAndHeartbeatAsNdjson() throws Exception {
+        var budget = budgetService.create(budget());
+
+        var response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                + "/changes/stream?after=0")).build(), BodyHandlers.ofLines());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/x-ndjson");
+        var events = response.body()
+                .map(line -> read(line))
+                .toList();
+        assertThat(events.get(0).getType()).isEqualTo(ChangeType.CREATED);
+        assertThat(events.get(0).getEntityId()).isEqualTo(budget.getId());
+        assertThat(events.subList(1, events.size())).isNotEmpty().allSatisfy(event -> {
+            assertThat(event.getType()).isEqualTo(ChangeType.HEARTBEAT);
+            assertThat(event.getId()).isEqualTo(events.get(0).getId());
+        });
+    }
+
+    @Test
+    @Order(2)
+    public void testShouldReplicateChangesAcrossReconnects() throws Exception {
+        var budget = budgetService.create(budget());
+        var path = "/budget/" + budget.getId();
+
+        var created = awaitFollower(path, response -> response.statusCode() == 200);
+        assertThat(created.headers().firstValue("X-Replica-Staleness-Ms")).isPresent();
+
+        // outlive the leader's stream so the next change arrives on a new connection
+        Thread.sleep(1500);
+        budgetService.withdrawn(budget.getId(), new BigDecimal("30"));
+
+        var withdrawn = awaitFollower(path, response -> response.statusCode() == 200
+                && readBudget(response.body()).getBalance().compareTo(new BigDecimal("70")) == 0);
+        assertThat(readBudget(withdrawn.body()).getBalance()).isEqualByComparingTo("70");
+        var lastSequence = changeEventRepository.findFirstByOrderByIdDesc().orElseThrow().getId();
+        assertThat(follower.getBean(ChangeFeedApplier.class).lastApplied()).isEqualTo(lastSequence);
+    }
+
+    @Test
+    @Order(3)
+    public void testShouldRejectWritesOnFollower() throws Exception {
+        var response = client.send(HttpRequest.newBuilder(followerUri.resolve("/budget"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString("{\"name\":\"Fuel\"}"))
+                .build(), BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(405);
+    }
+
+    @Test
+    @Order(4)
+    public void testShouldRefuseSpendingHistoryOnFollower() throws Exception {
+        var budget = budgetService.create(budget());
+        awaitFollower("/budget/" + budget.getId(), response -> response.statusCode() == 200);
+
+        var response = get(followerUri.resolve("/budget/" + budget.getId() + "/history"));
+
+        assertThat(response.statusCode()).isEqualTo(503);
+    }
+
+    @Test
+    @Order(5)
+    public void testShouldRefuseReadsOnceStalenessBoundIsExceeded() throws Exception {
+        follower.getBean(ChangeFeedFollower.class).stop();
+        Thread.sleep(3000);
+
+        var response = get(followerUri.resolve("/budget"));
+
+        assertThat(response.statusCode()).isEqualTo(503);
+    }
+
+    private HttpResponse<String> awaitFollower(String path, Predicate<HttpResponse<String>> condition)
+            throws IOException, InterruptedException {
+        var deadline = System.currentTimeMillis() + 10_000;
+        var response = get(followerUri.resolve(path));
+        while (!condition.test(response) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            response = get(followerUri.resolve(path));
+        }
+        return response;
+    }
+
+    private HttpResponse<String> get(URI uri) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri).GET().build(), BodyHandlers.ofString());
+    }
+
+    private ChangeEvent read(String line) {
+        try {
+            return objectMapper.readValue(line, ChangeEvent.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Budget readBudget(String body) {
+        try {
+            return objectMapper.readValue(body, Budget.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Budget budget() {
+        var budget = new Budget();
+        budget.setName("Groceries");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("100"));
+        return budget;
+    }
+
+}
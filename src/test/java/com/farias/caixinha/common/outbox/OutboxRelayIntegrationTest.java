@@ -0,0 +1,136 @@
+package com.farias.caixinha.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.model.BudgetWithdrawn;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.service.BudgetService;
+
+@SpringBootTest(properties = "caixinha.outbox.poll-interval-ms=3600000")
+@ActiveProfiles("test")
+public class OutboxRelayIntegrationTest {
+
+    @TestConfiguration
+    static class OutboxRelayTestConfiguration {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    @Autowired
+    OutboxRelay relay;
+
+    @Autowired
+    RecordingSink sink;
+
+    @Autowired
+    OutboxMessageRepository outboxRepository;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @BeforeEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        budgetRepository.deleteAll();
+        sink.delivered.clear();
+        sink.failures = 0;
+    }
+
+    @Test
+    public void testShouldEnqueueWithdrawalAndDeliverIt() {
+        var budget = withdrawnBudget();
+
+        var queued = outboxRepository.findAll();
+        assertThat(queued).hasSize(1);
+        assertThat(queued.get(0).getEventType()).isEqualTo(BudgetWithdrawn.EVENT_TYPE);
+        assertThat(queued.get(0).getAggregateId()).isEqualTo(budget.getId());
+
+        relay.relay();
+
+        assertThat(sink.delivered).extracting(OutboxMessage::getId).containsExactly(queued.get(0).getId());
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    public void testShouldRetryWithBackoffAfterFailure() {
+        withdrawnBudget();
+        sink.failures = 1;
+
+        relay.relay();
+
+        var pending = outboxRepository.findAll();
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).getAttempts()).isEqualTo(1);
+        assertThat(pending.get(0).getNextAttemptAt()).isAfter(Instant.now());
+        assertThat(pending.get(0).getLastError()).contains("recording");
+
+        relay.relay();
+        assertThat(sink.delivered).isEmpty();
+
+        pending.get(0).setNextAttemptAt(Instant.now());
+        outboxRepository.save(pending.get(0));
+        relay.relay();
+
+        assertThat(sink.delivered).hasSize(1);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    public void testShouldCapBackoff() {
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(relay.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private Budget withdrawnBudget() {
+        var budget = new Budget();
+        budget.setName("Fuel");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("100"));
+        budget = budgetService.create(budget);
+        budgetService.withdrawn(budget.getId(), new BigDecimal("10"));
+        return budget;
+    }
+
+    static class RecordingSink implements OutboxSink {
+        final List<OutboxMessage> delivered = new ArrayList<>();
+        int failures;
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void deliver(List<OutboxMessage> batch) throws IOException {
+            if (failures > 0) {
+                failures--;
+                throw new IOException("unavailable");
+            }
+            delivered.addAll(batch);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.farias.caixinha.common.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.farias.caixinha.application.budget.model.Budget;
+import com.farias.caixinha.application.budget.repository.BudgetRepository;
+import com.farias.caixinha.application.budget.service.BudgetService;
+
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest(properties = { "caixinha.profiling.enabled=true", "caixinha.profiling.threshold=0ms" })
+@ActiveProfiles("test")
+public class HotPathProfilerIntegrationTest {
+
+    @Autowired
+    HotPathProfiler profiler;
+
+    @Autowired
+    BudgetService budgetService;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @BeforeEach
+    void tearDown() {
+        budgetRepository.deleteAll();
+    }
+
+    @Test
+    public void testShouldSummarizeRepositoryCallsAndLocks() throws Exception {
+        var budget = new Budget();
+        budget.setName("Groceries");
+        budget.setInitialBalance(new BigDecimal("100"));
+        budget.setBalance(new BigDecimal("100"));
+        var id = budgetService.create(budget).getId();
+        budgetService.withdrawn(id, BigDecimal.ONE);
+
+        var summary = await(profiler::summary, operations -> operations.stream()
+                .anyMatch(o -> o.event().equals(LockAcquisitionEvent.NAME)));
+
+        assertThat(summary).anySatisfy(operation -> {
+            assertThat(operation.event()).isEqualTo(RepositoryCallEvent.NAME);
+            assertThat(operation.operation()).isEqualTo("Budget.save");
+            assertThat(operation.count()).isPositive();
+        });
+        assertThat(summary).anySatisfy(operation -> {
+            assertThat(operation.event()).isEqualTo(LockAcquisitionEvent.NAME);
+            assertThat(operation.operation()).isEqualTo("Budget.PESSIMISTIC_WRITE");
+        });
+        assertThat(profiler.slowest(5)).isNotEmpty().hasSizeLessThanOrEqualTo(5)
+                .isSortedAccordingTo((a, b) -> Double.compare(b.durationMillis(), a.durationMillis()));
+
+        var file = Files.createTempFile("caixinha-test-", ".jfr");
+        try {
+            profiler.dump(file);
+            assertThat(RecordingFile.readAllEvents(file))
+                    .anyMatch(event -> event.getEventType().getName().equals(RepositoryCallEvent.NAME));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static <T> List<T> await(Supplier<List<T>> supplier, Predicate<List<T>> condition)
+            throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 15_000;
+        var value = supplier.get();
+        while (!condition.test(value) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            value = supplier.get();
+        }
+        return value;
+    }
+
+}
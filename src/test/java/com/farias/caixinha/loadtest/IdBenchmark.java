@@ -0,0 +1,130 @@
+package com.farias.caixinha.loadtest;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.Histogram;
+
+import com.farias.caixinha.common.TimeOrderedUuidGenerator;
+
+/**
+ * Compares primary key layouts for the budget table on SQLite: random UUIDv4
+ * stored as text, random UUIDv4 stored as 16 bytes and time-ordered UUIDv7
+ * stored as 16 bytes. Reports batched insert throughput, point lookup latency
+ * and the resulting file size for each.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.main=com.farias.caixinha.loadtest.IdBenchmark
+ * </pre>
+ */
+public class IdBenchmark {
+
+    private static final int ROWS = Integer.getInteger("loadtest.id.rows", 500_000);
+    private static final int LOOKUPS = Integer.getInteger("loadtest.id.lookups", 100_000);
+    private static final int BATCH = 1000;
+
+    enum Layout {
+        TEXT_V4("text", UUID::randomUUID, UUID::toString),
+        BLOB_V4("blob", UUID::randomUUID, IdBenchmark::toBytes),
+        BLOB_V7("blob", TimeOrderedUuidGenerator::next, IdBenchmark::toBytes);
+
+        final String columnType;
+        final Supplier<UUID> ids;
+        final Function<UUID, Object> encoder;
+
+        Layout(String columnType, Supplier<UUID> ids, Function<UUID, Object> encoder) {
+            this.columnType = columnType;
+            this.ids = ids;
+            this.encoder = encoder;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%-8s %14s %12s %12s %12s %10s%n", "layout", "inserts/s", "lookup p50", "lookup p99",
+                "lookup p999", "size(MB)");
+        for (var layout : Layout.values()) {
+            run(layout);
+        }
+    }
+
+    private static void run(Layout layout) throws Exception {
+        var database = Files.createTempFile("caixinha-id-" + layout.name().toLowerCase(), ".sqlite");
+        try (var connection = DriverManager.getConnection("jdbc:sqlite:" + database)) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("create table budget (id " + layout.columnType
+                        + " not null primary key, name varchar(255), balance numeric(38,2))");
+            }
+            var ids = new ArrayList<UUID>(ROWS);
+            var insertNanos = insert(connection, layout, ids);
+            var lookups = lookup(connection, layout, ids);
+            System.out.printf("%-8s %14.0f %10.1fus %10.1fus %10.1fus %10.1f%n", layout,
+                    ROWS / (insertNanos / 1e9),
+                    lookups.getValueAtPercentile(50) / 1000.0,
+                    lookups.getValueAtPercentile(99) / 1000.0,
+                    lookups.getValueAtPercentile(99.9) / 1000.0,
+                    Files.size(database) / (1024.0 * 1024.0));
+        } finally {
+            Files.deleteIfExists(database);
+        }
+    }
+
+    private static long insert(Connection connection, Layout layout, List<UUID> ids) throws SQLException {
+        connection.setAutoCommit(false);
+        var start = System.nanoTime();
+        try (var statement = connection.prepareStatement("insert into budget (id, name, balance) values (?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                var id = layout.ids.get();
+                ids.add(id);
+                statement.setObject(1, layout.encoder.apply(id));
+                statement.setString(2, "budget-" + i);
+                statement.setLong(3, 1000);
+                statement.addBatch();
+                if ((i + 1) % BATCH == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        return System.nanoTime() - start;
+    }
+
+    private static Histogram lookup(Connection connection, Layout layout, List<UUID> ids) throws SQLException {
+        var histogram = new Histogram(3);
+        var random = new Random(42);
+        try (var statement = connection.prepareStatement("select name, balance from budget where id = ?")) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                var id = ids.get(random.nextInt(ids.size()));
+                var start = System.nanoTime();
+                statement.setObject(1, layout.encoder.apply(id));
+                try (var result = statement.executeQuery()) {
+                    if (!result.next()) {
+                        throw new IllegalStateException("Missing row " + id);
+                    }
+                }
+                histogram.recordValue(System.nanoTime() - start);
+            }
+        }
+        return histogram;
+    }
+
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,234 @@
+package com.farias.caixinha.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import com.farias.caixinha.CaixinhaApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Open-loop HTTP load generator. Boots the application with its production
+ * configuration against a temporary SQLite file, seeds budgets and then issues
+ * a weighted mix of {@link Workload} requests at a fixed rate. Latency is
+ * measured from each request's intended send time, so a stalled server shows
+ * up in the percentiles instead of silently lowering the offered load.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.rate=500 -Dloadtest.mix=poll:50,withdraw:50
+ * </pre>
+ */
+public class LoadGenerator {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadSettings settings;
+    private final URI baseUri;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random = new Random(42);
+    private final Map<Workload, Recorder> recorders = new EnumMap<>(Workload.class);
+    private final Map<Workload, Outcomes> outcomes = new EnumMap<>(Workload.class);
+    private final List<UUID> budgets = new ArrayList<>();
+    private final Workload[] schedule;
+    private final Semaphore inFlightPermits;
+
+    LoadGenerator(LoadSettings settings, URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        var weighted = new ArrayList<Workload>();
+        settings.mix().forEach((workload, weight) -> {
+            recorders.put(workload, new Recorder(3));
+            outcomes.put(workload, new Outcomes());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(workload);
+            }
+        });
+        this.schedule = weighted.toArray(Workload[]::new);
+        this.inFlightPermits = new Semaphore(settings.maxInFlight());
+    }
+
+    public static void main(String[] args) throws Exception {
+        var settings = LoadSettings.fromSystemProperties();
+        var database = Files.createTempFile("caixinha-loadtest", ".sqlite");
+        var outbox = Files.createTempFile("caixinha-loadtest-outbox", ".ndjson");
+        try (var context = new SpringApplicationBuilder(CaixinhaApplication.class).run(
+                "--spring.config.location=" + mainConfiguration(),
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:sqlite:" + database,
+                "--caixinha.outbox.sinks.file.path=" + outbox)) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoadGenerator(settings, URI.create("http://localhost:" + port + "/budgets-api/")).run();
+        } finally {
+            Files.deleteIfExists(database);
+            Files.deleteIfExists(outbox);
+        }
+    }
+
+    /**
+     * The harness runs on the test classpath, where the test
+     * application.properties shadows the production one. Point Spring at the
+     * main configuration so compression, outbox sinks and the other production
+     * settings are part of what gets measured.
+     */
+    private static String mainConfiguration() throws URISyntaxException {
+        var classes = Path.of(CaixinhaApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        return "file:" + classes.resolve("application.properties");
+    }
+
+    void run() throws IOException, InterruptedException {
+        seed();
+        System.out.printf("Warming up for %ss at %d req/s%n", settings.warmup().toSeconds(), settings.rate());
+        drive(settings.warmup());
+        recorders.values().forEach(Recorder::reset);
+        outcomes.values().forEach(Outcomes::reset);
+
+        System.out.printf("Measuring for %ss at %d req/s, mix %s%n", settings.duration().toSeconds(),
+                settings.rate(), settings.mix());
+        var elapsed = drive(settings.duration());
+        report(elapsed);
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.budgets(); i++) {
+            var response = client.send(Workload.json(baseUri.resolve("budget"), Workload.createBody(i)),
+                    BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+            }
+            budgets.add(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+        }
+    }
+
+    private Duration drive(Duration duration) throws InterruptedException {
+        var hotBudgets = budgets.subList(0, Math.min(settings.hotBudgets(), budgets.size()));
+        var intervalNanos = 1_000_000_000L / settings.rate();
+        var inFlight = new AtomicLong();
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+        for (long i = 0;; i++) {
+            var intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            var workload = schedule[random.nextInt(schedule.length)];
+            if (!inFlightPermits.tryAcquire()) {
+                outcomes.get(workload).unsent.incrementAndGet();
+                continue;
+            }
+            var request = workload.request(baseUri, budgets, hotBudgets, random);
+            inFlight.incrementAndGet();
+            client.sendAsync(request, BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        record(workload, intendedStart, response, error);
+                        inFlight.decrementAndGet();
+                        inFlightPermits.release();
+                    });
+        }
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void record(Workload workload, long intendedStart, HttpResponse<?> response, Throwable error) {
+        if (error != null) {
+            outcomes.get(workload).failed.incrementAndGet();
+            return;
+        }
+        recorders.get(workload).recordValue((System.nanoTime() - intendedStart) / 1000);
+        if (response.statusCode() >= 400) {
+            outcomes.get(workload).serverErrors.incrementAndGet();
+        }
+    }
+
+    private void report(Duration elapsed) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        var total = new Histogram(3);
+        var out = System.out;
+        out.printf("%n%-10s %10s %8s %8s %8s %10s %10s %10s %10s%n", "workload", "count", "errors", "failed",
+                "unsent", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        var totals = new Outcomes();
+        for (var entry : recorders.entrySet()) {
+            var histogram = entry.getValue().getIntervalHistogram();
+            total.add(histogram);
+            var workloadOutcomes = outcomes.get(entry.getKey());
+            totals.add(workloadOutcomes);
+            printRow(out, entry.getKey().name(), histogram, workloadOutcomes);
+            writeDistribution(entry.getKey().name().toLowerCase(), histogram);
+        }
+        printRow(out, "TOTAL", total, totals);
+        writeDistribution("total", total);
+        out.printf("%nThroughput: %.1f req/s over %.1fs (target %d req/s)%n",
+                total.getTotalCount() / (elapsed.toMillis() / 1000.0), elapsed.toMillis() / 1000.0, settings.rate());
+        out.printf("errors: HTTP 4xx/5xx from the app, failed: no response (connection or client error), "
+                + "unsent: skipped at the %d in-flight limit%n", settings.maxInFlight());
+        out.printf("Percentile distributions written to %s%n", settings.reportDir().toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, Outcomes outcomes) {
+        out.printf("%-10s %10d %8d %8d %8d %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(),
+                outcomes.serverErrors.get(), outcomes.failed.get(), outcomes.unsent.get(),
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private void writeDistribution(String name, Histogram histogram) throws IOException {
+        Path file = settings.reportDir().resolve(name + ".hgrm");
+        try (var stream = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(stream, MICROS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Requests are split by where they went wrong, so harness limits such as
+     * file descriptors are not mistaken for application errors.
+     */
+    private static class Outcomes {
+        final AtomicLong serverErrors = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong unsent = new AtomicLong();
+
+        void reset() {
+            serverErrors.set(0);
+            failed.set(0);
+            unsent.set(0);
+        }
+
+        void add(Outcomes other) {
+            serverErrors.addAndGet(other.serverErrors.get());
+            failed.addAndGet(other.failed.get());
+            unsent.addAndGet(other.unsent.get());
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.farias.caixinha.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+record LoadSettings(int rate, Duration warmup, Duration duration, int budgets, int hotBudgets, int maxInFlight,
+        Map<Workload, Integer> mix, Path reportDir) {
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60)),
+                Integer.getInteger("loadtest.budgets", 1000),
+                Integer.getInteger("loadtest.hot-budgets", 4),
+                Integer.getInteger("loadtest.max-in-flight", 512),
+                parseMix(System.getProperty("loadtest.mix", "poll:70,list:10,withdraw:15,create:5")),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")));
+    }
+
+    static Map<Workload, Integer> parseMix(String mix) {
+        var weights = new EnumMap<Workload, Integer>(Workload.class);
+        for (var entry : mix.split(",")) {
+            var parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <workload>:<weight>");
+            }
+            weights.put(Workload.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.farias.caixinha.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+enum Workload {
+
+    POLL {
+        @Override
+        HttpRequest request(URI baseUri, List<UUID> budgets, List<UUID> hotBudgets, Random random) {
+            var id = budgets.get(random.nextInt(budgets.size()));
+            return HttpRequest.newBuilder(baseUri.resolve("budget/" + id)).GET().build();
+        }
+    },
+    LIST {
+        @Override
+        HttpRequest request(URI baseUri, List<UUID> budgets, List<UUID> hotBudgets, Random random) {
+            return HttpRequest.newBuilder(baseUri.resolve("budget")).GET().build();
+        }
+    },
+    WITHDRAW {
+        @Override
+        HttpRequest request(URI baseUri, List<UUID> budgets, List<UUID> hotBudgets, Random random) {
+            var id = hotBudgets.get(random.nextInt(hotBudgets.size()));
+            return json(baseUri.resolve("budget/" + id + "/withdrawn"), "{\"amount\":1}");
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest request(URI baseUri, List<UUID> budgets, List<UUID> hotBudgets, Random random) {
+            return json(baseUri.resolve("budget"), createBody(random.nextInt()));
+        }
+    };
+
+    abstract HttpRequest request(URI baseUri, List<UUID> budgets, List<UUID> hotBudgets, Random random);
+
+    static String createBody(int seed) {
+        return "{\"name\":\"load-" + Integer.toHexString(seed)
+                + "\",\"icon\":\"wallet\",\"theme\":\"blue\",\"initialBalance\":1000000,\"balance\":1000000}";
+    }
+
+    static HttpRequest json(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+    }
+
+}